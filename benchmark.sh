@@ -0,0 +1,108 @@
+#!/usr/bin/env bash
+# Benchmark: platform threads x virtual threads
+#
+# Sobe a aplicação duas vezes (perfil do ambiente com e sem "vthreads") e mede
+# vazão e p99 com o hey em vários níveis de concorrência. Todas as requisições
+# usam o mesmo token, então o rate limit por usuário é desligado nas rodadas;
+# as respostas 429 e demais não-2xx são contadas para não mascarar o resultado.
+#
+# Requisitos: JDK 21, hey (https://github.com/rakyll/hey), curl, banco acessível
+# pelas variáveis SPRING_DATASOURCE_* e um usuário existente para o login.
+#
+# Uso:
+#   BENCH_REGISTRATION=20240001 BENCH_PASSWORD=segredo ./benchmark.sh
+#
+# Variáveis opcionais:
+#   BENCH_PROFILE      perfil base (padrão: prod)
+#   BENCH_PATH         endpoint medido (padrão: /api/courses/search?q=intro)
+#   BENCH_CONCURRENCY  níveis de concorrência (padrão: "16 64 256 1024")
+#   BENCH_DURATION     duração de cada rodada (padrão: 30s)
+#   BENCH_PORT         porta da aplicação (padrão: 8080)
+
+set -e
+
+: "${BENCH_REGISTRATION:?Defina BENCH_REGISTRATION}"
+: "${BENCH_PASSWORD:?Defina BENCH_PASSWORD}"
+
+PROFILE="${BENCH_PROFILE:-prod}"
+BENCH_PATH="${BENCH_PATH:-/api/courses/search?q=intro}"
+CONCURRENCY="${BENCH_CONCURRENCY:-16 64 256 1024}"
+DURATION="${BENCH_DURATION:-30s}"
+PORT="${BENCH_PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="target/benchmark"
+RESULTS="${OUT_DIR}/results.csv"
+
+command -v hey > /dev/null || { echo "❌ hey não encontrado no PATH"; exit 1; }
+
+echo "🔧 Compilando com o perfil virtual-threads..."
+./mvnw -q clean package -DskipTests -Pvirtual-threads
+JAR=$(ls target/student-portal-*.jar | grep -v original | head -1)
+
+mkdir -p "$OUT_DIR"
+echo "mode,concurrency,requests_per_sec,p99_ms,status_429,non_2xx" > "$RESULTS"
+
+APP_PID=""
+stop_app() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=""
+    fi
+}
+trap stop_app EXIT
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+    local log="${OUT_DIR}/${mode}.log"
+
+    echo "🚀 Subindo aplicação (${mode}, perfis: ${profiles})..."
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --spring.profiles.active="$profiles" --server.port="$PORT" \
+        --api.security.rate-limit.enabled=false > "$log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 90); do
+        curl -sf "${BASE_URL}/actuator/health" > /dev/null && break
+        sleep 2
+    done
+    curl -sf "${BASE_URL}/actuator/health" > /dev/null || { echo "❌ Aplicação não subiu, veja $log"; exit 1; }
+
+    local token
+    token=$(curl -sf -X POST "${BASE_URL}/api/auth/login" \
+        -H 'Content-Type: application/json' \
+        -d "{\"registration\":\"${BENCH_REGISTRATION}\",\"password\":\"${BENCH_PASSWORD}\"}" \
+        | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+    # Aquecimento do JIT e dos pools
+    hey -z 10s -c 16 -H "Authorization: Bearer ${token}" "${BASE_URL}${BENCH_PATH}" > /dev/null
+
+    for c in $CONCURRENCY; do
+        echo "📈 ${mode}: concorrência ${c} por ${DURATION}..."
+        local report
+        report=$(hey -z "$DURATION" -c "$c" -H "Authorization: Bearer ${token}" "${BASE_URL}${BENCH_PATH}")
+        local rps p99 throttled failed
+        rps=$(echo "$report" | awk '/Requests\/sec/ {print $2}')
+        p99=$(echo "$report" | awk '/ 99% in / {printf "%.1f", $3 * 1000}')
+        # Distribuição de status do hey: "  [429]  123 responses"
+        throttled=$(echo "$report" | awk '/^ *\[429\]/ {n += $2} END {print n + 0}')
+        failed=$(echo "$report" | awk '/^ *\[[0-9]+\]/ && !/^ *\[2[0-9][0-9]\]/ {n += $2} END {print n + 0}')
+        echo "${mode},${c},${rps},${p99},${throttled},${failed}" >> "$RESULTS"
+        if [ "$failed" -gt 0 ]; then
+            echo "⚠️  ${mode}: ${failed} respostas não-2xx (${throttled} com 429) na concorrência ${c}"
+        fi
+    done
+
+    local pinned
+    pinned=$(grep -c 'onPinned\|<== monitors' "$log" || true)
+    echo "📌 ${mode}: ${pinned} rastros de pinning no log"
+
+    stop_app
+}
+
+run_mode platform "$PROFILE"
+run_mode virtual "${PROFILE},vthreads"
+
+echo "✅ Benchmark concluído! Resultados em ${RESULTS}"
+column -s, -t < "$RESULTS"
@@ -0,0 +1,42 @@
+package br.com.student.portal.config.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Locale;
+
+/**
+ * Identifica o banco em uso uma única vez na inicialização, para que
+ * caminhos otimizados específicos do PostgreSQL possam ter fallback portável.
+ */
+@Slf4j
+@Component
+public class DatabasePlatform {
+
+    private final String productName;
+
+    public DatabasePlatform(DataSource dataSource) {
+        this.productName = detectProductName(dataSource);
+        log.info("Banco de dados detectado: {}", productName);
+    }
+
+    public boolean isPostgres() {
+        return productName.toLowerCase(Locale.ROOT).contains("postgresql");
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    private static String detectProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (Exception ex) {
+            log.warn("Não foi possível identificar o banco de dados: {}", ex.getMessage());
+            return "unknown";
+        }
+    }
+}
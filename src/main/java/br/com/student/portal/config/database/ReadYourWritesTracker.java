@@ -0,0 +1,50 @@
+package br.com.student.portal.config.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Lembra, por alguns segundos, quais usuários acabaram de confirmar uma escrita.
+ * Enquanto a janela estiver aberta, as leituras desse usuário vão para o
+ * primário e ele não vê a réplica atrasada em relação ao que acabou de gravar.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxSize) {
+        this.recentWriters = window.isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(window)
+                        .maximumSize(maxSize)
+                        .build();
+    }
+
+    public boolean isEnabled() {
+        return recentWriters != null;
+    }
+
+    public void recordWrite(String username) {
+        if (recentWriters != null && username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(String username) {
+        return recentWriters != null && username != null
+                && recentWriters.getIfPresent(username) != null;
+    }
+
+    /**
+     * Usuário autenticado na thread atual, ou null em jobs e requisições anônimas.
+     */
+    public static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.student.portal.config.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roteamento opcional de leituras para réplicas (app.datasource.replicas.enabled).
+ * Desligado, o DataSource único da autoconfiguração continua valendo.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    /**
+     * Pool do primário, com as mesmas propriedades spring.datasource.* de antes.
+     * As métricas do Hikari são ligadas pela autoconfiguração do actuator.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(
+            DataSourceProperties properties,
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls:}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.maximum-pool-size:5}") int maximumPoolSize,
+            @Value("${app.datasource.replicas.connection-timeout-ms:2000}") long connectionTimeoutMs,
+            @Value("${app.datasource.replicas.max-lag-seconds:10}") long maxLagSeconds
+    ) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + (pools.size() + 1));
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            config.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setMinimumIdle(Math.min(primaryDataSource.getMinimumIdle(), maximumPoolSize));
+            config.setIdleTimeout(primaryDataSource.getIdleTimeout());
+            config.setMaxLifetime(primaryDataSource.getMaxLifetime());
+            // Timeout curto: réplica lenta deve cair logo para o primário
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setReadOnly(true);
+            // Réplica fora do ar não impede a subida da aplicação
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+            pools.add(new HikariDataSource(config));
+        }
+
+        if (pools.isEmpty()) {
+            log.warn("Réplicas habilitadas, mas app.datasource.replicas.urls está vazio; leituras irão ao primário");
+        } else {
+            log.info("{} réplica(s) de leitura configurada(s)", pools.size());
+        }
+        return new ReplicaSet(pools, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replicas.read-your-writes-seconds:5}") long windowSeconds,
+            @Value("${app.datasource.replicas.read-your-writes-max-users:100000}") long maxUsers
+    ) {
+        return new ReadYourWritesTracker(Duration.ofSeconds(windowSeconds), maxUsers);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaSet replicaSet,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        var routing = new ReplicaRoutingDataSource(primaryDataSource, replicaSet, readYourWritesTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
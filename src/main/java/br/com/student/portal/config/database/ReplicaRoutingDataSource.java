@@ -0,0 +1,137 @@
+package br.com.student.portal.config.database;
+
+import br.com.student.portal.config.database.ReplicaSet.Replica;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Envia transações readOnly para uma réplica saudável e todo o resto para o
+ * primário. Deve ficar atrás de um LazyConnectionDataSourceProxy, para que a
+ * conexão só seja obtida depois que a transação marcou se é somente leitura.
+ * Se a réplica escolhida falhar ao entregar a conexão, a leitura cai no primário.
+ * <p>
+ * Os métodos de repositório do Spring Data rodam readOnly por padrão, então
+ * qualquer leitura fora de transação de escrita pode estar atrasada em até
+ * max-lag-seconds: listagens, detalhes, ETags e painel. Ficam no primário as
+ * leituras que não toleram atraso: buscas de usuário por email/matrícula
+ * (login, unicidade e principal), unicidade do cadastro em massa, versão de
+ * tokens e tudo que roda dentro de transação de escrita.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicas;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final Counter replicaRoutes;
+    private final Counter primaryRoutes;
+    private final Counter noHealthyReplica;
+    private final Counter readYourWritesRoutes;
+    private final Counter failovers;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            ReplicaSet replicas,
+            ReadYourWritesTracker readYourWrites,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+
+        // As réplicas são resolvidas direto do ReplicaSet; o mapa só registra o primário
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+        this.primaryRoutes = routeCounter(meterRegistry, PRIMARY, "read-write");
+        this.noHealthyReplica = routeCounter(meterRegistry, PRIMARY, "no-healthy-replica");
+        this.readYourWritesRoutes = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.failovers = routeCounter(meterRegistry, PRIMARY, "replica-failure");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (!(key instanceof Replica replica)) {
+            return getResolvedDefaultDataSource().getConnection();
+        }
+
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException ex) {
+            replicas.markDown(replica, ex);
+            failovers.increment();
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String username = ReadYourWritesTracker.currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            recordWriteAfterCommit(username);
+            return PRIMARY;
+        }
+
+        if (readYourWrites.wroteRecently(username)) {
+            readYourWritesRoutes.increment();
+            return PRIMARY;
+        }
+
+        Replica replica = replicas.next();
+        if (replica == null) {
+            noHealthyReplica.increment();
+            return PRIMARY;
+        }
+
+        replicaRoutes.increment();
+        return replica;
+    }
+
+    @Override
+    protected DataSource determineTargetDataSource() {
+        Object key = determineCurrentLookupKey();
+        return key instanceof Replica replica ? replica.dataSource() : getResolvedDefaultDataSource();
+    }
+
+    private void recordWriteAfterCommit(String username) {
+        if (username == null || !readYourWrites.isEnabled()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(username);
+            }
+        });
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.student.portal.config.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools das réplicas de leitura e seu estado de saúde. Uma réplica sai do
+ * rodízio quando falha ao entregar conexão ou quando o atraso de replicação
+ * passa do limite, e só volta depois de uma verificação bem-sucedida.
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    // Atraso zero quando tudo que foi recebido já foi aplicado (primário ocioso)
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<HikariDataSource> pools, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = pools.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLagSeconds;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("pool", replica.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            replica.failures = Counter.builder("db.replica.failures")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Próxima réplica saudável em rodízio, ou null se nenhuma estiver disponível.
+     */
+    public Replica next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public void markDown(Replica replica, Exception cause) {
+        replica.failures.increment();
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Réplica {} fora do rodízio: {}", replica.name(), cause.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("conexão inválida");
+                }
+                replica.lagSeconds = maxLagSeconds > 0 ? queryLag(connection) : 0;
+
+                replica.healthy = maxLagSeconds <= 0 || replica.lagSeconds <= maxLagSeconds;
+                if (!replica.healthy && wasHealthy) {
+                    log.warn("Réplica {} fora do rodízio: atraso de {}s", replica.name(), replica.lagSeconds);
+                } else if (replica.healthy && !wasHealthy) {
+                    log.info("Réplica {} de volta ao rodízio", replica.name());
+                }
+            } catch (SQLException ex) {
+                markDown(replica, ex);
+            }
+        }
+    }
+
+    private static double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                return rs.next() ? rs.getDouble(1) : 0;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    public static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+        private Counter failures;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return dataSource.getPoolName();
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
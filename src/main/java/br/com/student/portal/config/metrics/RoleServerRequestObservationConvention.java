@@ -0,0 +1,25 @@
+package br.com.student.portal.config.metrics;
+
+import br.com.student.portal.config.security.SecurityFilter;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Acrescenta a role do usuário às observações HTTP (http.server.requests).
+ * A role vem de um atributo da requisição gravado pelo {@link SecurityFilter},
+ * porque o contexto de segurança já foi limpo quando a observação termina.
+ */
+@Component
+public class RoleServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object role = context.getCarrier().getAttribute(SecurityFilter.ROLE_ATTRIBUTE);
+        String value = role != null ? role.toString().toLowerCase(Locale.ROOT) : "anonymous";
+        return super.getLowCardinalityKeyValues(context).and("role", value);
+    }
+}
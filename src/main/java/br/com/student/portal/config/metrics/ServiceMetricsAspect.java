@@ -0,0 +1,72 @@
+package br.com.student.portal.config.metrics;
+
+import br.com.student.portal.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cronometra os métodos públicos de todos os *Service, com histograma de
+ * percentis, por classe, método, exceção e role de quem chamou. Roda por fora
+ * do limitador de carga e da transação, então inclui a espera por permissão
+ * e por conexão. O TokenService fica de fora: a verificação de token já tem
+ * timer próprio (auth.token.verify) e seria medida em dobro.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "app.service.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * br.com.student.portal.service..*Service.*(..))"
+            + " && !within(br.com.student.portal.service.TokenService)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .tag("role", currentRole())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Role do usuário autenticado na thread; "none" fora de requisições
+     * (jobs agendados) e "anonymous" em rotas públicas.
+     */
+    static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "none";
+        }
+        if (authentication.getPrincipal() instanceof User user && user.getRole() != null) {
+            return user.getRole().name().toLowerCase(Locale.ROOT);
+        }
+        return "anonymous";
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.student.portal.config.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Encoder BCrypt com prefixo de identificação ({bcrypt}) e custo configurável.
+ * Hashes legados sem prefixo continuam sendo aceitos. Um hash só é sinalizado
+ * para atualização quando o custo está abaixo do atual ou acima do teto
+ * configurado: instâncias com custos vizinhos não ficam refazendo o hash
+ * do mesmo usuário a cada login alternado entre elas.
+ */
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT_ID + "}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final DelegatingPasswordEncoder delegate;
+    private final int strength;
+    private final int maxStrength;
+
+    public AdaptivePasswordEncoder(int strength, int maxStrength) {
+        this.strength = strength;
+        this.maxStrength = Math.max(strength, maxStrength);
+        this.delegate = new DelegatingPasswordEncoder(
+                BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength))
+        );
+        this.delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            return true;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword.substring(BCRYPT_PREFIX.length()));
+        if (!matcher.find()) {
+            return true;
+        }
+        int cost = Integer.parseInt(matcher.group(1));
+        return cost < strength || cost > maxStrength;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.student.portal.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Mede o tempo de hash BCrypt no hardware atual e escolhe o maior custo
+ * que ainda respeita a latência alvo. Cada custo é medido várias vezes e
+ * vale a mediana, para uma pausa de GC ou vizinho barulhento não mudar o
+ * resultado. Em produção o custo calibrado deve ser fixado por configuração.
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Sample#2024";
+    private static final int SAMPLES = 5;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // Aquecimento do JIT antes das medições
+        measureMillis(minStrength);
+
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = medianMillis(strength);
+            log.debug("Calibração BCrypt: custo {} levou {} ms (mediana de {})", strength, elapsed, SAMPLES);
+
+            if (elapsed > targetMillis) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("Custo BCrypt calibrado: {} (alvo: {} ms, limites: {}-{}). "
+                        + "Fixe BCRYPT_STRENGTH={} para que todas as instâncias usem o mesmo custo",
+                chosen, targetMillis, minStrength, maxStrength, chosen);
+        return chosen;
+    }
+
+    private static long medianMillis(int strength) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = measureMillis(strength);
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private static long measureMillis(int strength) {
+        var encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
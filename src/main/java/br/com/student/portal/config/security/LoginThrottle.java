@@ -0,0 +1,212 @@
+package br.com.student.portal.config.security;
+
+import br.com.student.portal.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limita tentativas de login com falha por conta, por IP e globalmente,
+ * antes de qualquer consulta ao banco ou verificação BCrypt.
+ * Usa janela deslizante aproximada sobre contadores exatos, um cache limitado
+ * por tipo de chave. Sob ataque com mais chaves que o limite do cache, as
+ * entradas mais antigas são descartadas: o ataque perde precisão, mas uma
+ * conta ou IP sem falhas nunca é bloqueado por colisão.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final String THROTTLED_MESSAGE =
+            "Muitas tentativas de login. Tente novamente mais tarde.";
+
+    private final AtomicReference<Window> window;
+    private final long windowMillis;
+    private final int maxFailuresPerAccount;
+    private final int maxFailuresPerIp;
+    private final long maxFailuresGlobal;
+
+    private final Cache<String, Failures> accountFailures;
+    private final Cache<String, Failures> ipFailures;
+
+    private final Counter accountRejections;
+    private final Counter ipRejections;
+    private final Counter globalRejections;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${api.security.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${api.security.login-throttle.max-failures-per-account:5}") int maxFailuresPerAccount,
+            @Value("${api.security.login-throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${api.security.login-throttle.max-failures-global:1000}") long maxFailuresGlobal,
+            @Value("${api.security.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys
+    ) {
+        this.windowMillis = windowSeconds * 1000;
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxFailuresGlobal = maxFailuresGlobal;
+        this.window = new AtomicReference<>(new Window(System.currentTimeMillis(), new AtomicLong(), 0));
+
+        // Uma entrada só importa na janela atual e na anterior
+        Duration retention = Duration.ofMillis(2 * windowMillis);
+        this.accountFailures = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(retention)
+                .build();
+        this.ipFailures = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(retention)
+                .build();
+
+        this.accountRejections = rejectionCounter(meterRegistry, "account");
+        this.ipRejections = rejectionCounter(meterRegistry, "ip");
+        this.globalRejections = rejectionCounter(meterRegistry, "global");
+    }
+
+    /**
+     * Rejeita a tentativa se a conta, o IP ou o sistema como um todo
+     * excederam o limite de falhas na janela atual.
+     */
+    public void checkAllowed(String identifier, String clientIp) {
+        long now = System.currentTimeMillis();
+        Window current = currentWindow(now);
+        double previousWeight = current.previousWeight(now, windowMillis);
+
+        double failuresFromIp = estimate(ipFailures, ipKey(clientIp), current, previousWeight);
+        if (failuresFromIp >= maxFailuresPerIp) {
+            reject(ipRejections, current, now, "IP", clientIp);
+        }
+
+        if (estimate(accountFailures, accountKey(identifier), current, previousWeight) >= maxFailuresPerAccount) {
+            reject(accountRejections, current, now, "conta", identifier);
+        }
+
+        // Sob ataque distribuído, só quem ainda não falhou continua tentando
+        if (failuresFromIp > 0 && current.totalFailures(previousWeight) >= maxFailuresGlobal) {
+            reject(globalRejections, current, now, "global", clientIp);
+        }
+    }
+
+    public void recordFailure(String identifier, String clientIp) {
+        Window current = currentWindow(System.currentTimeMillis());
+        increment(accountFailures, accountKey(identifier), current.startMillis());
+        increment(ipFailures, ipKey(clientIp), current.startMillis());
+        current.currentTotal().incrementAndGet();
+    }
+
+    private void increment(Cache<String, Failures> failures, String key, long windowStart) {
+        failures.asMap().compute(key, (ignored, existing) -> {
+            Failures next = existing != null ? existing.rollTo(windowStart, windowMillis) : new Failures(windowStart);
+            next.current++;
+            return next;
+        });
+    }
+
+    private double estimate(Cache<String, Failures> failures, String key, Window current, double previousWeight) {
+        Failures entry = failures.getIfPresent(key);
+        if (entry == null) {
+            return 0;
+        }
+
+        long start = current.startMillis();
+        // Leitura sem lock: valores levemente defasados só atrasam o bloqueio em uma tentativa
+        long entryStart = entry.windowStart;
+        if (entryStart == start) {
+            return entry.current + entry.previous * previousWeight;
+        }
+        if (entryStart == start - windowMillis) {
+            return entry.current * previousWeight;
+        }
+        return 0;
+    }
+
+    private void reject(Counter counter, Window current, long now, String reason, String key) {
+        counter.increment();
+        long retryAfterSeconds = Math.max(1, (current.startMillis() + windowMillis - now) / 1000);
+        log.warn("Login bloqueado por limite de tentativas ({}): {}", reason, key);
+        throw new TooManyRequestsException(THROTTLED_MESSAGE, retryAfterSeconds);
+    }
+
+    private Window currentWindow(long now) {
+        Window current = window.get();
+
+        while (now - current.startMillis() >= windowMillis) {
+            Window next = now - current.startMillis() >= 2 * windowMillis
+                    ? new Window(now, new AtomicLong(), 0)
+                    : new Window(current.startMillis() + windowMillis, new AtomicLong(), current.currentTotal().get());
+
+            if (window.compareAndSet(current, next)) {
+                current = next;
+            } else {
+                current = window.get();
+            }
+        }
+
+        return current;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.throttled")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String accountKey(String identifier) {
+        return identifier == null ? "" : identifier.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return clientIp == null ? "" : clientIp;
+    }
+
+    /**
+     * Falhas de uma chave na janela atual e na anterior. Alterado apenas
+     * dentro de compute, que serializa as escritas por chave.
+     */
+    private static final class Failures {
+
+        private volatile long windowStart;
+        private volatile int current;
+        private volatile int previous;
+
+        private Failures(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private Failures rollTo(long start, long windowMillis) {
+            if (windowStart == start) {
+                return this;
+            }
+            Failures next = new Failures(start);
+            if (windowStart == start - windowMillis) {
+                next.previous = current;
+            }
+            return next;
+        }
+    }
+
+    private record Window(
+            long startMillis,
+            AtomicLong currentTotal,
+            long previousTotal
+    ) {
+
+        double previousWeight(long now, long windowMillis) {
+            double elapsed = (double) (now - startMillis) / windowMillis;
+            return Math.max(0, 1 - elapsed);
+        }
+
+        double totalFailures(double previousWeight) {
+            return currentTotal.get() + previousTotal * previousWeight;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.student.portal.config.security;
+
+import br.com.student.portal.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache limitado dos usuários autenticados, indexado pelo token JWT.
+ * Evita uma consulta ao banco em cada requisição autenticada; a entrada
+ * nunca sobrevive à expiração do próprio token.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(
+            @Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${api.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String token, CachedPrincipal principal, long currentTime) {
+                        return remainingLifetime(principal, ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, CachedPrincipal principal,
+                                                  long currentTime, long currentDuration) {
+                        return remainingLifetime(principal, ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, CachedPrincipal principal,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Cache de principais inicializado (máximo: {}, TTL: {}s)", maxSize, ttlSeconds);
+    }
+
+    public CachedPrincipal get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    /**
+     * Geração atual do cache. Deve ser lida antes de consultar o usuário no banco
+     * e repassada ao {@link #put}, para que uma invalidação concorrente não seja
+     * sobrescrita por um usuário desatualizado.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public CachedPrincipal put(String token, User user, Instant expiresAt, long tokenVersion, long loadedAtGeneration) {
+        var principal = new CachedPrincipal(user, List.copyOf(user.getAuthorities()), expiresAt, tokenVersion);
+
+        if (generation.get() == loadedAtGeneration) {
+            cache.put(token, principal);
+        }
+
+        return principal;
+    }
+
+    /**
+     * Remove todas as entradas do usuário. Chamado quando a conta é alterada ou removida.
+     */
+    public void invalidateUser(UUID userId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(principal -> userId.equals(principal.user().getId()));
+        log.debug("Cache de principais invalidado para usuário: {}", userId);
+    }
+
+    private static Duration remainingLifetime(CachedPrincipal principal, Duration ttl) {
+        if (principal.expiresAt() == null) {
+            return ttl;
+        }
+
+        Duration untilExpiration = Duration.between(Instant.now(), principal.expiresAt());
+        if (untilExpiration.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiration.compareTo(ttl) < 0 ? untilExpiration : ttl;
+    }
+
+    public record CachedPrincipal(
+            User user,
+            List<GrantedAuthority> authorities,
+            Instant expiresAt,
+            long tokenVersion
+    ) {
+    }
+}
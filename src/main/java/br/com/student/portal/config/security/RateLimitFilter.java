@@ -0,0 +1,201 @@
+package br.com.student.portal.config.security;
+
+import br.com.student.portal.config.security.TokenBucket.Budget;
+import br.com.student.portal.config.security.TokenBucket.Probe;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.entity.enums.UserRole;
+import br.com.student.portal.exception.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Limita a taxa de requisições por usuário autenticado (ou por IP, sem
+ * autenticação), depois do {@link SecurityFilter}. Listagens pesadas têm um
+ * orçamento próprio, menor, para que um único usuário não esgote o pool de
+ * conexões. Baldes ociosos expiram, então a memória fica limitada.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String THROTTLED_MESSAGE =
+            "Limite de requisições excedido. Tente novamente mais tarde.";
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private static final String CACHE_NAME = "rate-limit-buckets";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final boolean enabled;
+    private final List<String> heavyPaths;
+    private final Map<UserRole, Budget> generalBudgets = new EnumMap<>(UserRole.class);
+    private final Map<UserRole, Budget> heavyBudgets = new EnumMap<>(UserRole.class);
+    private final Budget anonymousBudget;
+
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${api.security.rate-limit.window-seconds:60}") long windowSeconds,
+            @Value("${api.security.rate-limit.student.requests:120}") int studentRequests,
+            @Value("${api.security.rate-limit.student.heavy-requests:20}") int studentHeavyRequests,
+            @Value("${api.security.rate-limit.teacher.requests:240}") int teacherRequests,
+            @Value("${api.security.rate-limit.teacher.heavy-requests:40}") int teacherHeavyRequests,
+            @Value("${api.security.rate-limit.admin.requests:600}") int adminRequests,
+            @Value("${api.security.rate-limit.admin.heavy-requests:120}") int adminHeavyRequests,
+            @Value("${api.security.rate-limit.anonymous.requests:60}") int anonymousRequests,
+            @Value("${api.security.rate-limit.heavy-paths:/api/tasks,/api/tasks/course/**,/api/courses,/api/courses/search,/api/users,/api/payments,/api/payments/export}")
+            List<String> heavyPaths,
+            @Value("${api.security.rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${api.security.rate-limit.idle-seconds:600}") long idleSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.heavyPaths = List.copyOf(heavyPaths);
+
+        long windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        for (UserRole role : UserRole.values()) {
+            int requests;
+            int heavyRequests;
+            if (role.isAdmin()) {
+                requests = adminRequests;
+                heavyRequests = adminHeavyRequests;
+            } else if (role.isTeacher()) {
+                requests = teacherRequests;
+                heavyRequests = teacherHeavyRequests;
+            } else {
+                requests = studentRequests;
+                heavyRequests = studentHeavyRequests;
+            }
+            generalBudgets.put(role, new Budget("general", requests, windowNanos));
+            heavyBudgets.put(role, new Budget("heavy", heavyRequests, windowNanos));
+        }
+        this.anonymousBudget = new Budget("anonymous", anonymousRequests, windowNanos);
+
+        // A janela precisa caber no tempo ocioso, senão um balde vazio expiraria cheio
+        Duration idle = Duration.ofSeconds(Math.max(idleSeconds, windowSeconds));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idle)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+
+        log.info("Limite de requisições {} (janela: {}s, baldes: até {}, ociosidade: {}s)",
+                enabled ? "ativo" : "desativado", windowSeconds, maxBuckets, idle.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || request.getServletPath().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Probe probe = consume(request);
+        writeRateLimitHeaders(response, probe);
+
+        if (!probe.allowed()) {
+            reject(request, response, probe);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Probe consume(HttpServletRequest request) {
+        long now = System.nanoTime();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        String key;
+        Budget budget;
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            UserRole role = user.getRole() != null ? user.getRole() : UserRole.STUDENT;
+            budget = isHeavy(request) ? heavyBudgets.get(role) : generalBudgets.get(role);
+            key = "user:" + user.getId() + ":" + role + ":" + budget.name();
+        } else {
+            budget = anonymousBudget;
+            key = "ip:" + request.getRemoteAddr();
+        }
+
+        return buckets.get(key, ignored -> new TokenBucket(now)).tryConsume(budget, now);
+    }
+
+    private boolean isHeavy(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+
+        String path = request.getServletPath();
+        for (String pattern : heavyPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeRateLimitHeaders(HttpServletResponse response, Probe probe) {
+        Budget budget = probe.budget();
+        response.setHeader(LIMIT_HEADER, String.valueOf(budget.capacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(probe.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(probe.resetSeconds()));
+        response.setHeader(POLICY_HEADER, budget.capacity() + ";w=" + budget.windowSeconds());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Probe probe) throws IOException {
+        Counter.builder("http.server.requests.throttled")
+                .tag("budget", probe.budget().name())
+                .register(meterRegistry)
+                .increment();
+        log.warn("Requisição bloqueada por limite de taxa ({}): {} {}",
+                probe.budget().name(), request.getMethod(), request.getServletPath());
+
+        var error = new ApiError(TOO_MANY_REQUESTS.value(), THROTTLED_MESSAGE, Instant.now().toEpochMilli());
+        response.setStatus(TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(probe.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
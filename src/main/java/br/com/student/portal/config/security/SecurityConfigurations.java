@@ -5,16 +5,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -28,12 +31,29 @@ import java.util.List;
 public class SecurityConfigurations {
 
     private final SecurityFilter securityFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${app.cors.allowed-origins:http://localhost:5173}")
     private String allowedOrigins;
 
-    public SecurityConfigurations(SecurityFilter securityFilter) {
+    @Value("${api.security.password.bcrypt-strength:0}")
+    private int bcryptStrength;
+
+    @Value("${api.security.password.target-hash-ms:50}")
+    private long targetHashMillis;
+
+    @Value("${api.security.password.min-strength:10}")
+    private int minBcryptStrength;
+
+    @Value("${api.security.password.max-strength:14}")
+    private int maxBcryptStrength;
+
+    @Value("${api.security.metrics.allowed-ips:127.0.0.1/32,::1/128}")
+    private List<String> metricsAllowedIps;
+
+    public SecurityConfigurations(SecurityFilter securityFilter, RateLimitFilter rateLimitFilter) {
         this.securityFilter = securityFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -47,8 +67,11 @@ public class SecurityConfigurations {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/by-registration/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
+                        // Scrape do Prometheus: sem token, mas só a partir dos IPs liberados
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").access(metricsScrapeAccess())
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -58,9 +81,23 @@ public class SecurityConfigurations {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, SecurityFilter.class)
                 .build();
     }
 
+    /**
+     * Libera o endpoint de métricas apenas para os endereços/faixas CIDR configurados.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapeAccess() {
+        List<IpAddressMatcher> matchers = metricsAllowedIps.stream()
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -68,7 +105,16 @@ public class SecurityConfigurations {
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization", "Content-Disposition"));
+        configuration.setExposedHeaders(List.of(
+                "Authorization",
+                "Content-Disposition",
+                "ETag",
+                "Retry-After",
+                RateLimitFilter.LIMIT_HEADER,
+                RateLimitFilter.REMAINING_HEADER,
+                RateLimitFilter.RESET_HEADER,
+                RateLimitFilter.POLICY_HEADER
+        ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -77,9 +123,16 @@ public class SecurityConfigurations {
         return source;
     }
 
+    /**
+     * Custo fixo quando configurado; caso contrário calibrado na inicialização
+     * para respeitar a latência alvo no hardware em que a aplicação roda.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : BCryptStrengthCalibrator.calibrate(targetHashMillis, minBcryptStrength, maxBcryptStrength);
+        return new AdaptivePasswordEncoder(strength, maxBcryptStrength);
     }
 
     @Bean
@@ -1,11 +1,19 @@
 package br.com.student.portal.config.security;
 
+import br.com.student.portal.config.security.PrincipalCache.CachedPrincipal;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.entity.enums.UserRole;
 import br.com.student.portal.repository.UserRepository;
 import br.com.student.portal.service.TokenService;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,18 +21,48 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
+@Slf4j
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
+    /**
+     * Atributo da requisição com a role do usuário autenticado, usado nas métricas HTTP.
+     */
+    public static final String ROLE_ATTRIBUTE = SecurityFilter.class.getName() + ".role";
+
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // No modo stateless a revogação é a única barreira para contas alteradas
+    private static final long MAX_STATELESS_REVOCATION_DELAY_SECONDS = 60;
+
     private final TokenService tokenService;
     private final UserRepository userRepository;
-
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+
+    @Value("${api.security.token.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    public SecurityFilter(
+            TokenService tokenService,
+            UserRepository userRepository,
+            PrincipalCache principalCache,
+            TokenRevocationRegistry revocationRegistry
+    ) {
         this.tokenService = tokenService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationRegistry = revocationRegistry;
+    }
+
+    @PostConstruct
+    void validateRevocation() {
+        if (statelessPrincipal && revocationRegistry.propagationSeconds() > MAX_STATELESS_REVOCATION_DELAY_SECONDS) {
+            throw new IllegalStateException("Principal stateless exige api.security.token.revocation-cache-seconds <= "
+                    + MAX_STATELESS_REVOCATION_DELAY_SECONDS + ", senão uma revogação demora a chegar aos outros nós");
+        }
     }
 
     @Override
@@ -44,22 +82,102 @@ public class SecurityFilter extends OncePerRequestFilter {
     }
 
     private void authenticateUser(String token, HttpServletRequest request) {
-        String email = tokenService.validateToken(token);
-
-        if (email != null && !email.isBlank()) {
-            userRepository.findByEmail(email).ifPresent(user -> {
-                var authentication = new UsernamePasswordAuthenticationToken(
-                        user,
-                        null,
-                        user.getAuthorities()
-                );
-
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            });
+        CachedPrincipal principal = statelessPrincipal
+                ? principalFromClaims(token)
+                : principalCache.get(token);
+
+        if (principal != null && !statelessPrincipal && isRevoked(principal.user().getId(), principal.tokenVersion())) {
+            // Conta alterada em outro nó depois que o principal entrou no cache deste
+            principal = null;
+        } else if (principal == null && !statelessPrincipal) {
+            principal = loadPrincipal(token);
+        }
+
+        if (principal != null) {
+            var authentication = new UsernamePasswordAuthenticationToken(
+                    principal.user(),
+                    null,
+                    principal.authorities()
+            );
+
+            authentication.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (principal.user().getRole() != null) {
+                request.setAttribute(ROLE_ATTRIBUTE, principal.user().getRole().name());
+            }
+        }
+    }
+
+    private CachedPrincipal loadPrincipal(String token) {
+        DecodedJWT decodedJWT = tokenService.verifyToken(token);
+
+        if (decodedJWT == null) {
+            return null;
+        }
+
+        String email = decodedJWT.getSubject();
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+
+        long tokenVersion = TokenService.tokenVersion(decodedJWT);
+        long generation = principalCache.currentGeneration();
+        return userRepository.findByEmail(email)
+                .filter(user -> user.getTokenVersion() == null || tokenVersion >= user.getTokenVersion())
+                .map(user -> principalCache.put(token, user, decodedJWT.getExpiresAtAsInstant(), tokenVersion, generation))
+                .orElse(null);
+    }
+
+    /**
+     * Monta o principal apenas a partir dos claims verificados do token,
+     * sem carregar o usuário. A revogação é conferida pela versão do token.
+     */
+    private CachedPrincipal principalFromClaims(String token) {
+        DecodedJWT decodedJWT = tokenService.verifyToken(token);
+
+        if (decodedJWT == null) {
+            return null;
+        }
+
+        try {
+            UUID userId = UUID.fromString(decodedJWT.getClaim(TokenService.CLAIM_USER_ID).asString());
+            UserRole role = UserRole.valueOf(decodedJWT.getClaim(TokenService.CLAIM_ROLE).asString());
+
+            long tokenVersion = TokenService.tokenVersion(decodedJWT);
+            if (isRevoked(userId, tokenVersion)) {
+                return null;
+            }
+
+            User user = User.builder()
+                    .id(userId)
+                    .email(decodedJWT.getSubject())
+                    .name(decodedJWT.getClaim(TokenService.CLAIM_NAME).asString())
+                    .role(role)
+                    .accessEnable(true)
+                    .build();
+
+            return new CachedPrincipal(user, role.getAuthorities(), decodedJWT.getExpiresAtAsInstant(), tokenVersion);
+
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            log.debug("Token sem claims de principal válidos: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isRevoked(UUID userId, long tokenVersion) {
+        try {
+            if (revocationRegistry.isRevoked(userId, tokenVersion)) {
+                log.debug("Token revogado para usuário: {}", userId);
+                return true;
+            }
+            return false;
+        } catch (DataAccessException ex) {
+            // Sem como conferir a revogação, o token não é aceito
+            log.warn("Falha ao consultar revogação de tokens do usuário {}: {}", userId, ex.getMessage());
+            return true;
         }
     }
 
@@ -80,6 +198,7 @@ public class SecurityFilter extends OncePerRequestFilter {
         return path.startsWith("/swagger-ui")
                 || path.startsWith("/v3/api-docs")
                 || path.equals("/api/auth/login")
-                || path.equals("/api/auth/register");
+                || path.equals("/api/auth/register")
+                || path.equals("/api/auth/refresh");
     }
 }
@@ -0,0 +1,78 @@
+package br.com.student.portal.config.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem locks, no formato GCRA: guarda apenas o instante teórico
+ * em que o balde estaria cheio de novo e o avança com compare-and-set.
+ * Um único long por balde, sem timer de reposição.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    Probe tryConsume(Budget budget, long nowNanos) {
+        long interval = budget.intervalNanos();
+        long burst = budget.burstNanos();
+
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + interval;
+            long backlog = next - nowNanos;
+
+            if (backlog > burst) {
+                return new Probe(false, budget, 0, Math.max(arrival, nowNanos) - nowNanos, backlog - burst);
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return new Probe(true, budget, (burst - backlog) / interval, backlog, 0);
+            }
+        }
+    }
+
+    /**
+     * Capacidade do balde e janela em que ele se recompõe por completo.
+     */
+    record Budget(String name, int capacity, long windowNanos) {
+
+        Budget {
+            if (capacity <= 0 || windowNanos <= 0) {
+                throw new IllegalArgumentException("Limite inválido para " + name + ": " + capacity);
+            }
+        }
+
+        long intervalNanos() {
+            return Math.max(1, windowNanos / capacity);
+        }
+
+        long burstNanos() {
+            return intervalNanos() * capacity;
+        }
+
+        long windowSeconds() {
+            return toSeconds(windowNanos);
+        }
+    }
+
+    /**
+     * Resultado de uma tentativa de consumo, com o necessário para os
+     * cabeçalhos RateLimit-*.
+     */
+    record Probe(boolean allowed, Budget budget, long remaining, long resetNanos, long retryAfterNanos) {
+
+        long resetSeconds() {
+            return toSeconds(resetNanos);
+        }
+
+        long retryAfterSeconds() {
+            return Math.max(1, toSeconds(retryAfterNanos));
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
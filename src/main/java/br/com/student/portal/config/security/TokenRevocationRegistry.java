@@ -0,0 +1,72 @@
+package br.com.student.portal.config.security;
+
+import br.com.student.portal.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Revogação de tokens por usuário, compartilhada entre as instâncias pela
+ * coluna users.token_version. Revogar incrementa a versão; tokens emitidos
+ * com versão menor deixam de ser aceitos em qualquer nó, inclusive após
+ * reinícios. A leitura passa por um cache local curto, então os demais nós
+ * enxergam a revogação em até revocation-cache-seconds.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final String CACHE_NAME = "token_version";
+
+    // Usuário removido: nenhuma versão de token é aceita
+    private static final long MISSING_USER = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Long> versions;
+    private final long cacheSeconds;
+
+    public TokenRevocationRegistry(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.security.token.revocation-cache-seconds:5}") long cacheSeconds,
+            @Value("${api.security.token.revocation-cache-max-size:100000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.cacheSeconds = cacheSeconds;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    public void revoke(UUID userId) {
+        userRepository.incrementTokenVersion(userId);
+        versions.invalidate(userId);
+        log.debug("Tokens revogados para usuário: {}", userId);
+    }
+
+    /**
+     * Um token é revogado quando foi emitido com versão anterior à atual do usuário.
+     */
+    public boolean isRevoked(UUID userId, long tokenVersion) {
+        long current = versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(MISSING_USER));
+        return tokenVersion < current;
+    }
+
+    /**
+     * Atraso máximo até uma revogação feita em outro nó ser vista por este.
+     */
+    public long propagationSeconds() {
+        return cacheSeconds;
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.student.portal.config.workload;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência adaptativo no estilo gradiente: compara a latência
+ * recente com a latência de referência (média longa) e reduz o limite quando
+ * a recente sobe além da tolerância. Sem contenção, o limite volta a crescer
+ * em passos de raiz quadrada até o máximo configurado.
+ * A espera por permissão fica no {@link WorkloadLimiters}.
+ */
+final class GradientLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.5;
+    private static final int LONG_WINDOW = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long sampleWindowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile double limit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Amostras da janela atual; protegidas por lock
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    GradientLimiter(int minLimit, int maxLimit, double tolerance, long sampleWindowNanos) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limites inválidos: " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.sampleWindowNanos = sampleWindowNanos;
+        this.limit = maxLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Devolve a permissão e registra a latência observada com ela.
+     */
+    void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+
+        lock.lock();
+        try {
+            record(rttNanos, inFlightAtRelease, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Todas as permissões estão em uso ou há chamadas esperando por uma.
+     */
+    boolean isSaturated() {
+        return waiting.get() > 0 || inFlight.get() >= (int) limit;
+    }
+
+    void startWaiting() {
+        waiting.incrementAndGet();
+    }
+
+    void stopWaiting() {
+        waiting.decrementAndGet();
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void record(long rttNanos, int inFlightAtRelease, long now) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+
+        if (now - windowStart < sampleWindowNanos) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+        // Latência bem abaixo da referência: a referência acompanha mais rápido
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        // Sem demanda suficiente a latência não diz nada sobre um limite maior
+        boolean appLimited = windowMaxInFlight < current / 2;
+
+        double next;
+        if (gradient < 1.0) {
+            next = current * gradient;
+        } else {
+            next = appLimited ? current : current + Math.sqrt(current);
+        }
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
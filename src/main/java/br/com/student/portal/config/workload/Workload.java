@@ -0,0 +1,20 @@
+package br.com.student.portal.config.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Classifica o método (ou todos os métodos públicos da classe) numa classe de
+ * carga. A chamada só prossegue com uma permissão do limitador da classe;
+ * a anotação no método prevalece sobre a da classe.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Workload {
+
+    WorkloadClass value();
+}
@@ -0,0 +1,65 @@
+package br.com.student.portal.config.workload;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aplica o {@link WorkloadLimiters} aos métodos anotados com {@link Workload}.
+ * Roda por fora do proxy transacional (e por dentro da cronometragem dos
+ * serviços), então a permissão é obtida antes de a transação pedir uma
+ * conexão ao pool.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class WorkloadAspect {
+
+    private final WorkloadLimiters workloadLimiters;
+
+    @Around("@within(br.com.student.portal.config.workload.Workload) "
+            + "|| @annotation(br.com.student.portal.config.workload.Workload)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        WorkloadClass workload = resolve(joinPoint);
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return workloadLimiters.call(workload, () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CheckedInvocationException(ex);
+                }
+            });
+        } catch (CheckedInvocationException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static WorkloadClass resolve(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        }
+        return workload != null ? workload.value() : null;
+    }
+
+    private static final class CheckedInvocationException extends RuntimeException {
+
+        CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.student.portal.config.workload;
+
+/**
+ * Classes de carga que disputam o pool de conexões, da mais para a menos
+ * prioritária. Sob contenção, as classes de menor prioridade cedem primeiro.
+ */
+public enum WorkloadClass {
+    INTERACTIVE,
+    REPORTING,
+    // Exportações em streaming seguram a permissão por minutos; não ocupam a de REPORTING
+    EXPORT,
+    BATCH;
+
+    public boolean outranks(WorkloadClass other) {
+        return ordinal() < other.ordinal();
+    }
+}
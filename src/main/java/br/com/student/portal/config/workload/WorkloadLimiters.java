@@ -0,0 +1,194 @@
+package br.com.student.portal.config.workload;
+
+import br.com.student.portal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Orçamento de permissões por classe de carga na frente do pool de conexões.
+ * Cada classe tem um limitador adaptativo próprio; além disso, uma classe só
+ * é admitida enquanto nenhuma classe mais prioritária estiver saturada, então
+ * relatórios e lotes cedem antes das leituras dos estudantes.
+ */
+@Slf4j
+@Component
+public class WorkloadLimiters {
+
+    private static final String PREFIX = "app.workload.";
+    private static final String REJECTED_MESSAGE =
+            "Sistema sobrecarregado. Tente novamente em instantes.";
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<WorkloadClass, GradientLimiter> limiters = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Long> maxWaitNanos = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, Counter> rejections = new EnumMap<>(WorkloadClass.class);
+
+    // Espera por permissão: sinalizada a cada devolução, sem polling
+    private final ReentrantLock admission = new ReentrantLock();
+    private final Condition released = admission.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public WorkloadLimiters(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true);
+        this.retryAfterSeconds = environment.getProperty(PREFIX + "retry-after-seconds", Long.class, 2L);
+        long sampleWindowNanos = TimeUnit.MILLISECONDS.toNanos(
+                environment.getProperty(PREFIX + "sample-window-ms", Long.class, 1000L));
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 5);
+
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String key = PREFIX + workload.name().toLowerCase(Locale.ROOT) + ".";
+            int maxLimit = environment.getProperty(key + "max-limit", Integer.class, defaultMaxLimit(workload, poolSize));
+            int minLimit = environment.getProperty(key + "min-limit", Integer.class, 1);
+            double tolerance = environment.getProperty(key + "tolerance", Double.class, defaultTolerance(workload));
+            long maxWaitMs = environment.getProperty(key + "max-wait-ms", Long.class, defaultMaxWaitMs(workload));
+
+            GradientLimiter limiter = new GradientLimiter(minLimit, maxLimit, tolerance, sampleWindowNanos);
+            limiters.put(workload, limiter);
+            maxWaitNanos.put(workload, TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+
+            String tag = workload.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("workload.limit", limiter, GradientLimiter::getLimit)
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            Gauge.builder("workload.inflight", limiter, GradientLimiter::getInFlight)
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            rejections.put(workload, Counter.builder("workload.rejected")
+                    .tag("workload", tag)
+                    .register(meterRegistry));
+
+            log.info("Limitador de carga {} inicializado (limite: {}..{}, tolerância: {}, espera: {} ms)",
+                    workload, minLimit, maxLimit, tolerance, maxWaitMs);
+        }
+    }
+
+    /**
+     * Executa a chamada com uma permissão da classe. Chamadas aninhadas
+     * reaproveitam a permissão de quem já está executando na thread.
+     */
+    public <T> T call(WorkloadClass workload, Supplier<T> body) {
+        if (!enabled || CURRENT.get() != null) {
+            return body.get();
+        }
+
+        GradientLimiter limiter = limiters.get(workload);
+        acquire(workload, limiter);
+
+        long start = System.nanoTime();
+        CURRENT.set(workload);
+        try {
+            return body.get();
+        } finally {
+            CURRENT.remove();
+            limiter.release(System.nanoTime() - start);
+            signalReleased();
+        }
+    }
+
+    public void run(WorkloadClass workload, Runnable body) {
+        call(workload, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    private void acquire(WorkloadClass workload, GradientLimiter limiter) {
+        if (!higherPrioritySaturated(workload) && limiter.tryAcquire()) {
+            return;
+        }
+
+        long remaining = maxWaitNanos.get(workload);
+        limiter.startWaiting();
+        waiters.incrementAndGet();
+        admission.lock();
+        try {
+            while (true) {
+                if (!higherPrioritySaturated(workload) && limiter.tryAcquire()) {
+                    return;
+                }
+                if (remaining <= 0) {
+                    break;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            admission.unlock();
+            waiters.decrementAndGet();
+            limiter.stopWaiting();
+        }
+
+        rejections.get(workload).increment();
+        log.warn("Chamada {} rejeitada pelo limitador de carga (limite: {}, em andamento: {})",
+                workload, limiter.getLimit(), limiter.getInFlight());
+        throw new ServiceUnavailableException(REJECTED_MESSAGE, retryAfterSeconds);
+    }
+
+    /**
+     * Acorda quem espera: a permissão devolvida (ou um limite que cresceu)
+     * pode liberar esta classe ou uma menos prioritária que estava bloqueada.
+     */
+    private void signalReleased() {
+        if (waiters.get() == 0) {
+            return;
+        }
+        admission.lock();
+        try {
+            released.signalAll();
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    private boolean higherPrioritySaturated(WorkloadClass workload) {
+        for (Map.Entry<WorkloadClass, GradientLimiter> entry : limiters.entrySet()) {
+            if (entry.getKey().outranks(workload) && entry.getValue().isSaturated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int defaultMaxLimit(WorkloadClass workload, int poolSize) {
+        return switch (workload) {
+            case INTERACTIVE -> poolSize;
+            case REPORTING -> Math.max(2, poolSize / 2);
+            case EXPORT, BATCH -> 1;
+        };
+    }
+
+    private static double defaultTolerance(WorkloadClass workload) {
+        return switch (workload) {
+            case INTERACTIVE -> 2.0;
+            case REPORTING -> 1.5;
+            case EXPORT -> 1.5;
+            case BATCH -> 1.2;
+        };
+    }
+
+    private static long defaultMaxWaitMs(WorkloadClass workload) {
+        return switch (workload) {
+            case INTERACTIVE -> 250;
+            case REPORTING -> 1000;
+            case EXPORT -> 0;
+            case BATCH -> 30000;
+        };
+    }
+}
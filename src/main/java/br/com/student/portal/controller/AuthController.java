@@ -1,9 +1,11 @@
 package br.com.student.portal.controller;
 
+import br.com.student.portal.dto.request.RefreshTokenRequest;
 import br.com.student.portal.dto.request.UserRequest;
 import br.com.student.portal.dto.response.AuthResponse;
 import br.com.student.portal.dto.response.UserResponse;
 import br.com.student.portal.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -27,10 +29,16 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody UserRequest loginRequest) {
+    public ResponseEntity<AuthResponse> login(@RequestBody UserRequest loginRequest, HttpServletRequest request) {
         return ResponseEntity.ok(authService.login(
                 loginRequest.getRegistration(),
-                loginRequest.getPassword()
+                loginRequest.getPassword(),
+                request.getRemoteAddr()
         ));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        return ResponseEntity.ok(authService.refresh(refreshRequest.getRefreshToken()));
+    }
 }
\ No newline at end of file
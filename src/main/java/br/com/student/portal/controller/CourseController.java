@@ -2,15 +2,19 @@ package br.com.student.portal.controller;
 
 import br.com.student.portal.dto.request.CourseRequest;
 import br.com.student.portal.dto.response.CourseResponse;
+import br.com.student.portal.dto.response.CourseSearchResponse;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,24 +25,56 @@ import java.util.UUID;
 @Tag(name = "Cursos", description = "Gerenciamento de cursos")
 public class CourseController {
 
+    // Sem max-age: o cliente guarda a resposta e sempre revalida com If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final CourseService courseService;
 
     @GetMapping
-    @Operation(summary = "Lista todos os cursos")
-    public ResponseEntity<List<CourseResponse>> getAllCourses() {
-        return ResponseEntity.ok(courseService.getAllCourses());
+    @Operation(summary = "Lista cursos paginados por cursor")
+    public ResponseEntity<CursorPageResponse<CourseResponse>> getAllCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = courseService.getCoursesETag(cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(courseService.getAllCourses(cursor, size));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Busca cursos por nome ou descrição")
+    public ResponseEntity<List<CourseSearchResponse>> searchCourses(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(courseService.searchCourses(query, limit));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Busca curso por ID")
-    public ResponseEntity<CourseResponse> getCourseById(@PathVariable UUID id) {
-        return ResponseEntity.ok(courseService.getCourseById(id));
+    public ResponseEntity<CourseResponse> getCourseById(@PathVariable UUID id, WebRequest request) {
+        String etag = courseService.getCourseETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(courseService.getCourseById(id));
     }
 
     @GetMapping("/active")
-    @Operation(summary = "Lista cursos ativos")
-    public ResponseEntity<List<CourseResponse>> getActiveCourses() {
-        return ResponseEntity.ok(courseService.getActiveCourses());
+    @Operation(summary = "Lista cursos ativos paginados por cursor")
+    public ResponseEntity<CursorPageResponse<CourseResponse>> getActiveCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = courseService.getActiveCoursesETag(cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(courseService.getActiveCourses(cursor, size));
     }
 
     @PostMapping
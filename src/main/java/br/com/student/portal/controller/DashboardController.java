@@ -0,0 +1,29 @@
+package br.com.student.portal.controller;
+
+import br.com.student.portal.dto.response.DashboardResponse;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Painel", description = "Painel inicial do usuário")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/me")
+    @Operation(summary = "Cursos ativos, tarefas atrasadas e pagamentos pendentes em uma única chamada")
+    public ResponseEntity<DashboardResponse> getMyDashboard(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(dashboardService.getDashboard(user));
+    }
+}
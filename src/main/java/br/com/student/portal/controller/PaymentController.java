@@ -1,18 +1,34 @@
 package br.com.student.portal.controller;
 
+import br.com.student.portal.dto.request.DataFormat;
+import br.com.student.portal.dto.request.PaymentExportFilter;
 import br.com.student.portal.dto.request.PaymentRequest;
+import br.com.student.portal.dto.response.CursorPageResponse;
+import br.com.student.portal.dto.response.PaymentImportReport;
 import br.com.student.portal.dto.response.PaymentResponse;
+import br.com.student.portal.dto.response.StudentPaymentSummaryResponse;
+import br.com.student.portal.entity.enums.PaymentStatus;
+import br.com.student.portal.exception.BadRequestException;
+import br.com.student.portal.service.PaymentExportService;
+import br.com.student.portal.service.PaymentImportService;
 import br.com.student.portal.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -22,12 +38,58 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentExportService paymentExportService;
+    private final PaymentImportService paymentImportService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Lista todos os pagamentos")
-    public ResponseEntity<List<PaymentResponse>> getAllPayments() {
-        return ResponseEntity.ok(paymentService.getAllPayments());
+    @Operation(summary = "Lista pagamentos paginados por cursor")
+    public ResponseEntity<CursorPageResponse<PaymentResponse>> getAllPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(paymentService.getAllPayments(cursor, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exporta pagamentos em NDJSON ou CSV (streaming)")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) UUID studentId) {
+
+        DataFormat dataFormat = DataFormat.from(format);
+        var filter = new PaymentExportFilter(status, dueFrom, dueTo, studentId);
+        StreamingResponseBody body = outputStream ->
+                paymentExportService.export(filter, dataFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(dataFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"payments." + dataFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importa pagamentos em massa a partir de CSV ou NDJSON")
+    public ResponseEntity<PaymentImportReport> importPayments(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new BadRequestException("Arquivo de importação vazio.");
+        }
+
+        DataFormat dataFormat = format != null
+                ? DataFormat.from(format)
+                : DataFormat.fromFilename(file.getOriginalFilename());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(paymentImportService.importPayments(inputStream, dataFormat));
+        }
     }
 
     @GetMapping("/{id}")
@@ -37,15 +99,27 @@ public class PaymentController {
     }
 
     @GetMapping("/student/{studentId}")
-    @Operation(summary = "Lista pagamentos do estudante")
-    public ResponseEntity<List<PaymentResponse>> getPaymentsByStudentId(@PathVariable UUID studentId) {
-        return ResponseEntity.ok(paymentService.getPaymentsByStudentId(studentId));
+    @Operation(summary = "Lista pagamentos do estudante paginados por cursor")
+    public ResponseEntity<CursorPageResponse<PaymentResponse>> getPaymentsByStudentId(
+            @PathVariable UUID studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(paymentService.getPaymentsByStudentId(studentId, cursor, size));
     }
 
     @GetMapping("/student/{studentId}/pending")
-    @Operation(summary = "Lista pagamentos pendentes do estudante")
-    public ResponseEntity<List<PaymentResponse>> getPendingPayments(@PathVariable UUID studentId) {
-        return ResponseEntity.ok(paymentService.getPendingPaymentsByStudent(studentId));
+    @Operation(summary = "Lista pagamentos pendentes do estudante paginados por cursor")
+    public ResponseEntity<CursorPageResponse<PaymentResponse>> getPendingPayments(
+            @PathVariable UUID studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(paymentService.getPendingPaymentsByStudent(studentId, cursor, size));
+    }
+
+    @GetMapping("/student/{studentId}/summary")
+    @Operation(summary = "Resumo de pagamentos do estudante por status")
+    public ResponseEntity<StudentPaymentSummaryResponse> getStudentSummary(@PathVariable UUID studentId) {
+        return ResponseEntity.ok(paymentService.getStudentSummary(studentId));
     }
 
     @GetMapping("/student/{studentId}/has-pending")
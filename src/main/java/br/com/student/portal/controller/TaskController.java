@@ -1,6 +1,7 @@
 package br.com.student.portal.controller;
 
 import br.com.student.portal.dto.request.TaskRequest;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.TaskResponse;
 import br.com.student.portal.entity.User;
 import br.com.student.portal.service.TaskService;
@@ -8,13 +9,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -23,30 +25,63 @@ import java.util.UUID;
 @Tag(name = "Tarefas", description = "Gerenciamento de tarefas")
 public class TaskController {
 
+    // Sem max-age: o cliente guarda a resposta e sempre revalida com If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
 
     @GetMapping
-    @Operation(summary = "Lista todas as tarefas")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    @Operation(summary = "Lista tarefas paginadas por cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = taskService.getTasksETag(cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(taskService.getAllTasks(cursor, size));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Busca tarefa por ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id, WebRequest request) {
+        String etag = taskService.getTaskETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(taskService.getTaskById(id));
     }
 
     @GetMapping("/course/{courseId}")
-    @Operation(summary = "Lista tarefas de um curso")
-    public ResponseEntity<List<TaskResponse>> getTasksByCourse(@PathVariable UUID courseId) {
-        return ResponseEntity.ok(taskService.getTasksByCourse(courseId));
+    @Operation(summary = "Lista tarefas de um curso paginadas por cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksByCourse(
+            @PathVariable UUID courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = taskService.getTasksByCourseETag(courseId, cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(taskService.getTasksByCourse(courseId, cursor, size));
     }
 
     @GetMapping("/overdue")
-    @Operation(summary = "Lista tarefas atrasadas")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks() {
-        return ResponseEntity.ok(taskService.getOverdueTasks());
+    @Operation(summary = "Lista tarefas atrasadas paginadas por cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getOverdueTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = taskService.getOverdueTasksETag(cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(taskService.getOverdueTasks(cursor, size));
     }
 
     @PostMapping
@@ -1,18 +1,24 @@
 package br.com.student.portal.controller;
 
+import br.com.student.portal.dto.request.BulkUserRequest;
 import br.com.student.portal.dto.request.UserRequest;
+import br.com.student.portal.dto.response.BulkUserJobResponse;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.UserResponse;
+import br.com.student.portal.service.BulkUserImportService;
 import br.com.student.portal.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -21,19 +27,36 @@ import java.util.UUID;
 @Tag(name = "Usuários", description = "Gerenciamento de usuários")
 public class UserController {
 
+    // Sem max-age: o cliente guarda a resposta e sempre revalida com If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final BulkUserImportService bulkUserImportService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Lista todos os usuários")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    @Operation(summary = "Lista usuários paginados por cursor")
+    public ResponseEntity<CursorPageResponse<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = userService.getUsersETag(cursor, size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(userService.getAllUsers(cursor, size));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Busca usuário por ID")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id, WebRequest request) {
+        String etag = userService.getUserETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(userService.getUserById(id));
     }
 
     @GetMapping("/by-registration/{registration}")
@@ -50,6 +73,23 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Inicia o cadastro de usuários em massa")
+    public ResponseEntity<BulkUserJobResponse> createUsersInBulk(@Valid @RequestBody BulkUserRequest request) {
+        BulkUserJobResponse job = bulkUserImportService.submit(request.getUsers());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/users/bulk/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/bulk/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Consulta o andamento de um cadastro em massa")
+    public ResponseEntity<BulkUserJobResponse> getBulkJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(bulkUserImportService.getJob(jobId));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Atualiza um usuário")
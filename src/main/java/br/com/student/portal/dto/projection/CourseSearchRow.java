@@ -0,0 +1,19 @@
+package br.com.student.portal.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Linha da busca nativa de cursos, com a relevância calculada pelo pg_trgm.
+ */
+public interface CourseSearchRow {
+
+    UUID getId();
+
+    String getName();
+
+    String getDescription();
+
+    String getStatus();
+
+    Double getScore();
+}
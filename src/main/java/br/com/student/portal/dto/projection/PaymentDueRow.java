@@ -0,0 +1,10 @@
+package br.com.student.portal.dto.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Identificador e vencimento de um pagamento pendente carregado no agendador de prazos.
+ */
+public record PaymentDueRow(UUID id, LocalDate dueDate) {
+}
@@ -0,0 +1,16 @@
+package br.com.student.portal.dto.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Pagamento alterado por uma transição de status em lote.
+ */
+public interface PaymentTransition {
+
+    UUID getId();
+
+    UUID getStudentId();
+
+    BigDecimal getAmount();
+}
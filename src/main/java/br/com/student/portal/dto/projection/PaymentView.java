@@ -0,0 +1,31 @@
+package br.com.student.portal.dto.projection;
+
+import br.com.student.portal.entity.enums.PaymentMethod;
+import br.com.student.portal.entity.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura plano de pagamento, preenchido por expressão de construtor
+ * JPQL com o estudante já unido. Evita hidratar a entidade {@code User}.
+ */
+public record PaymentView(
+        UUID id,
+        UUID studentId,
+        String studentName,
+        BigDecimal amount,
+        LocalDate paymentDate,
+        LocalDate dueDate,
+        PaymentStatus status,
+        PaymentMethod paymentMethod,
+        String transactionId,
+        LocalDateTime createdAt
+) {
+
+    public boolean isOverdue() {
+        return status != null && status.isOverdue(dueDate);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.student.portal.dto.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Quantidade e valor de pagamentos de um estudante afetados por uma operação em massa.
+ */
+public interface StudentPaymentTotal {
+
+    UUID getStudentId();
+
+    long getCount();
+
+    BigDecimal getAmount();
+}
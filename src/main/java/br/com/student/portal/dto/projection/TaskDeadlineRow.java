@@ -0,0 +1,10 @@
+package br.com.student.portal.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Identificador e prazo de uma tarefa pendente carregada no agendador de prazos.
+ */
+public record TaskDeadlineRow(UUID id, LocalDateTime deadline) {
+}
@@ -0,0 +1,38 @@
+package br.com.student.portal.dto.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Quantidade de linhas e maior updated_at de um conjunto, lidos numa única
+ * agregação. Qualquer inserção, alteração ou remoção muda um dos dois, então
+ * serve de versão para ETags sem carregar as entidades.
+ */
+public record VersionStamp(Long count, LocalDateTime lastModified) {
+
+    /**
+     * Versão de linhas com associações exibidas na resposta: vale o updated_at
+     * mais recente entre a entidade e as associadas.
+     */
+    public VersionStamp(Long count, LocalDateTime own, LocalDateTime first, LocalDateTime second) {
+        this(count, Stream.of(own, first, second)
+                .filter(value -> value != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null));
+    }
+
+    public boolean isEmpty() {
+        return count == null || count == 0;
+    }
+
+    /**
+     * ETag forte para o recurso identificado por {@code scope} (tipo, ID ou
+     * filtros e página da listagem) nesta versão.
+     */
+    public String toETag(String scope) {
+        String key = scope + "|" + count + "|" + lastModified;
+        return "\"" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.student.portal.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserRequest {
+
+    @NotEmpty(message = "Lista de usuários é obrigatória")
+    @Size(max = 10000, message = "Máximo de 10000 usuários por lote")
+    private List<UserRequest> users;
+}
@@ -0,0 +1,57 @@
+package br.com.student.portal.dto.request;
+
+import br.com.student.portal.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco para paginação keyset: a chave de ordenação e o id
+ * do último item retornado.
+ */
+public record Cursor(LocalDateTime position, UUID id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Tamanho de página efetivo, limitado a {@link #MAX_PAGE_SIZE}.
+     */
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Busca um item além da página para saber se existe próxima.
+     */
+    public static Pageable limit(int pageSize) {
+        return PageRequest.ofSize(pageSize + 1);
+    }
+}
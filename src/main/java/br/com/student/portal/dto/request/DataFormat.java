@@ -0,0 +1,40 @@
+package br.com.student.portal.dto.request;
+
+import br.com.student.portal.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * Deduz o formato pela extensão do arquivo enviado, se houver.
+     */
+    public static DataFormat fromFilename(String filename) {
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            for (DataFormat format : values()) {
+                if (lower.endsWith("." + format.extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new BadRequestException("Não foi possível identificar o formato do arquivo. Informe ndjson ou csv.");
+    }
+
+    public static DataFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new BadRequestException("Formato de arquivo inválido: " + value + ". Use ndjson ou csv.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.student.portal.dto.request;
+
+import br.com.student.portal.entity.enums.PaymentStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Filtros opcionais da exportação de pagamentos.
+ */
+public record PaymentExportFilter(
+        PaymentStatus status,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        UUID studentId
+) {
+}
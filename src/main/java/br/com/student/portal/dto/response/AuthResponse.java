@@ -15,6 +15,8 @@ public class AuthResponse {
     private String token;
     private String type;
     private Long expiresIn;
+    private String refreshToken;
+    private Long refreshExpiresIn;
     private UUID userId;
     private String userName;
     private String userEmail;
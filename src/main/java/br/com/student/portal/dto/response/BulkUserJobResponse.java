@@ -0,0 +1,30 @@
+package br.com.student.portal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserJobResponse {
+
+    private UUID jobId;
+    private String status;
+    private int total;
+    private int processed;
+    private int created;
+    private int rejected;
+    private List<ItemError> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public record ItemError(int index, String email, String message) {
+    }
+}
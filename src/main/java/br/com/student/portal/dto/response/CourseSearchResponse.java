@@ -0,0 +1,23 @@
+package br.com.student.portal.dto.response;
+
+import br.com.student.portal.entity.enums.CourseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSearchResponse {
+    private UUID id;
+    private String name;
+    private CourseStatus status;
+    private String statusDisplayName;
+    private String nameHighlighted;
+    private String descriptionSnippet;
+    private Double score;
+}
@@ -0,0 +1,42 @@
+package br.com.student.portal.dto.response;
+
+import br.com.student.portal.dto.request.Cursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Monta a página a partir de até {@code pageSize + 1} linhas já ordenadas.
+     */
+    public static <E, T> CursorPageResponse<T> from(
+            List<E> rows,
+            int pageSize,
+            Function<E, T> mapper,
+            Function<E, Cursor> cursorOf
+    ) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
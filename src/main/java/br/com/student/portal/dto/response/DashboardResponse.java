@@ -0,0 +1,21 @@
+package br.com.student.portal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private UUID userId;
+    private DashboardSection<CursorPageResponse<CourseResponse>> activeCourses;
+    private DashboardSection<CursorPageResponse<TaskResponse>> overdueTasks;
+    private DashboardSection<CursorPageResponse<PaymentResponse>> pendingPayments;
+    private DashboardSection<Boolean> hasPendingPayments;
+    private boolean partial;
+}
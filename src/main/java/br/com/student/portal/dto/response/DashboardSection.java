@@ -0,0 +1,33 @@
+package br.com.student.portal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Uma seção do painel: os dados, ou o motivo de não estarem disponíveis.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSection<T> {
+
+    public enum Status {
+        OK, TIMEOUT, ERROR, UNAVAILABLE
+    }
+
+    private Status status;
+    private T data;
+    private String error;
+    private long elapsedMs;
+
+    public static <T> DashboardSection<T> ok(T data, long elapsedMs) {
+        return new DashboardSection<>(Status.OK, data, null, elapsedMs);
+    }
+
+    public static <T> DashboardSection<T> failed(Status status, String error, long elapsedMs) {
+        return new DashboardSection<>(status, null, error, elapsedMs);
+    }
+}
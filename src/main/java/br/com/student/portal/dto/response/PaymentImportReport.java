@@ -0,0 +1,25 @@
+package br.com.student.portal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentImportReport {
+
+    private long totalRows;
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    public record RowError(long line, String message) {
+    }
+}
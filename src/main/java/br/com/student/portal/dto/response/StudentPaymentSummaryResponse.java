@@ -0,0 +1,30 @@
+package br.com.student.portal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPaymentSummaryResponse {
+    private UUID studentId;
+    private int pendingCount;
+    private BigDecimal pendingAmount;
+    private int paidCount;
+    private BigDecimal paidAmount;
+    private int overdueCount;
+    private BigDecimal overdueAmount;
+    private int cancelledCount;
+    private BigDecimal cancelledAmount;
+    private int refundedCount;
+    private BigDecimal refundedAmount;
+    private boolean hasPendingPayments;
+    private LocalDateTime updatedAt;
+}
@@ -4,6 +4,8 @@ import br.com.student.portal.entity.base.BaseEntity;
 import br.com.student.portal.entity.enums.CourseStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Course.CACHE_REGION)
 @Table(name = "courses", indexes = {
         @Index(name = "idx_courses_status", columnList = "status"),
         @Index(name = "idx_courses_start_date", columnList = "start_date")
@@ -22,6 +26,8 @@ import java.util.UUID;
 @Builder
 public class Course extends BaseEntity {
 
+    public static final String CACHE_REGION = "course";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
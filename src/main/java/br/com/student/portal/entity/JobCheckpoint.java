@@ -0,0 +1,52 @@
+package br.com.student.portal.entity;
+
+import br.com.student.portal.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Estado da execução de um job em lote, gravado a cada lote confirmado.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint extends BaseEntity {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "cutoff_date")
+    private LocalDate cutoffDate;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private int chunks;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+}
@@ -56,9 +56,7 @@ public class Payment extends BaseEntity {
     private String notes;
 
     public boolean isOverdue() {
-        return status == PaymentStatus.PENDENTE &&
-                dueDate != null &&
-                LocalDate.now().isAfter(dueDate);
+        return status != null && status.isOverdue(dueDate);
     }
 
     public void markAsPaid(PaymentMethod method) {
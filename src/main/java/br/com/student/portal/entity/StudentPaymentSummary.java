@@ -0,0 +1,63 @@
+package br.com.student.portal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura com contagens e totais de pagamentos por status.
+ * Somente leitura no JPA: é atualizado por deltas em SQL na mesma
+ * transação das escritas de pagamentos.
+ */
+@Entity
+@Immutable
+@Table(name = "student_payment_summary")
+@Getter
+@NoArgsConstructor
+public class StudentPaymentSummary {
+
+    @Id
+    @Column(name = "student_id")
+    private UUID studentId;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "pending_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal pendingAmount;
+
+    @Column(name = "paid_count", nullable = false)
+    private int paidCount;
+
+    @Column(name = "paid_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal paidAmount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private int overdueCount;
+
+    @Column(name = "overdue_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal overdueAmount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private int cancelledCount;
+
+    @Column(name = "cancelled_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal cancelledAmount;
+
+    @Column(name = "refunded_count", nullable = false)
+    private int refundedCount;
+
+    @Column(name = "refunded_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal refundedAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -51,9 +51,18 @@ public class Task extends BaseEntity {
     private User createdBy;
 
     public boolean isOverdue() {
-        return status == TaskStatus.PENDING &&
+        return status == TaskStatus.OVERDUE || (status == TaskStatus.PENDING &&
                 deadline != null &&
-                LocalDateTime.now().isAfter(deadline);
+                LocalDateTime.now().isAfter(deadline));
+    }
+
+    /**
+     * Volta para PENDING uma tarefa vencida cujo prazo foi prorrogado.
+     */
+    public void reopenIfDeadlineAhead() {
+        if (status == TaskStatus.OVERDUE && deadline != null && LocalDateTime.now().isBefore(deadline)) {
+            this.status = TaskStatus.PENDING;
+        }
     }
 
     public boolean allowsSubmission() {
@@ -4,12 +4,11 @@ import br.com.student.portal.entity.base.BaseEntity;
 import br.com.student.portal.entity.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -49,28 +48,15 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "access_enable", nullable = false)
     private Boolean accessEnable = true;
 
+    // Gravada apenas por UserRepository.incrementTokenVersion, nunca pelo save da entidade
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    private Long tokenVersion = 0L;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return switch (role) {
-            case SUPER_USER -> List.of(
-                    new SimpleGrantedAuthority("ROLE_SUPER_USER"),
-                    new SimpleGrantedAuthority("ROLE_ADMIN"),
-                    new SimpleGrantedAuthority("ROLE_TEACHER"),
-                    new SimpleGrantedAuthority("ROLE_USER")
-            );
-            case ADMIN -> List.of(
-                    new SimpleGrantedAuthority("ROLE_ADMIN"),
-                    new SimpleGrantedAuthority("ROLE_USER")
-            );
-            case TEACHER -> List.of(
-                    new SimpleGrantedAuthority("ROLE_TEACHER"),
-                    new SimpleGrantedAuthority("ROLE_USER")
-            );
-            case STUDENT -> List.of(
-                    new SimpleGrantedAuthority("ROLE_STUDENT"),
-                    new SimpleGrantedAuthority("ROLE_USER")
-            );
-        };
+        return role.getAuthorities();
     }
 
     @Override
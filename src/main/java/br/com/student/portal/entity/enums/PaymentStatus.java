@@ -3,6 +3,8 @@ package br.com.student.portal.entity.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+
 @Getter
 @RequiredArgsConstructor
 public enum PaymentStatus {
@@ -36,6 +38,16 @@ public enum PaymentStatus {
         return this == ATRASADO;
     }
 
+    /**
+     * Regra única de atraso: já marcado como atrasado, ou pendente com vencimento anterior a hoje.
+     * Usada pela entidade e pelas projeções de leitura.
+     */
+    public boolean isOverdue(LocalDate dueDate) {
+        return this == ATRASADO || (this == PENDENTE &&
+                dueDate != null &&
+                LocalDate.now().isAfter(dueDate));
+    }
+
     /**
      * Verifica se permite alteração de status.
      */
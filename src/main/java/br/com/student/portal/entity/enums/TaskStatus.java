@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum TaskStatus {
     PENDING("Pendente", "Aguardando envio"),
+    OVERDUE("Vencida", "Prazo encerrado sem envio"),
     SUBMITTED("Enviada", "Tarefa enviada pelo aluno"),
     LATE("Atrasada", "Enviada após o prazo"),
     GRADED("Avaliada", "Tarefa corrigida"),
@@ -16,7 +17,7 @@ public enum TaskStatus {
     private final String description;
 
     public boolean allowsSubmission() {
-        return this == PENDING || this == RETURNED;
+        return this == PENDING || this == OVERDUE || this == RETURNED;
     }
 
     public boolean isCompleted() {
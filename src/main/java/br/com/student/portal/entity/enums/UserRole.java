@@ -2,6 +2,12 @@ package br.com.student.portal.entity.enums;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @RequiredArgsConstructor
@@ -15,6 +21,15 @@ public enum UserRole {
     private final String description;
     private final int hierarchyLevel;
 
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = buildAuthorities();
+
+    /**
+     * Authorities imutáveis do role, calculadas uma única vez.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(this);
+    }
+
     /**
      * Verifica se este role tem permissão igual ou superior a outro.
      */
@@ -33,4 +48,31 @@ public enum UserRole {
     public boolean isStudent() {
         return this == STUDENT;
     }
+
+    private static Map<UserRole, List<GrantedAuthority>> buildAuthorities() {
+        Map<UserRole, List<GrantedAuthority>> authorities = new EnumMap<>(UserRole.class);
+        for (UserRole role : values()) {
+            authorities.put(role, switch (role) {
+                case SUPER_USER -> List.of(
+                        new SimpleGrantedAuthority("ROLE_SUPER_USER"),
+                        new SimpleGrantedAuthority("ROLE_ADMIN"),
+                        new SimpleGrantedAuthority("ROLE_TEACHER"),
+                        new SimpleGrantedAuthority("ROLE_USER")
+                );
+                case ADMIN -> List.of(
+                        new SimpleGrantedAuthority("ROLE_ADMIN"),
+                        new SimpleGrantedAuthority("ROLE_USER")
+                );
+                case TEACHER -> List.of(
+                        new SimpleGrantedAuthority("ROLE_TEACHER"),
+                        new SimpleGrantedAuthority("ROLE_USER")
+                );
+                case STUDENT -> List.of(
+                        new SimpleGrantedAuthority("ROLE_STUDENT"),
+                        new SimpleGrantedAuthority("ROLE_USER")
+                );
+            });
+        }
+        return authorities;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package br.com.student.portal.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -26,6 +27,22 @@ public class HttpErrorExceptionHandler {
         return buildErrorResponse(FORBIDDEN, e.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiError> serviceUnavailable(ServiceUnavailableException e) {
+        var error = new ApiError(SERVICE_UNAVAILABLE.value(), e.getMessage(), now().toEpochMilli());
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> tooManyRequests(TooManyRequestsException e) {
+        var error = new ApiError(TOO_MANY_REQUESTS.value(), e.getMessage(), now().toEpochMilli());
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     private ResponseEntity<ApiError> buildErrorResponse(HttpStatus status, String message) {
         var error = new ApiError(status.value(), message, now().toEpochMilli());
         return ResponseEntity.status(status).body(error);
@@ -1,15 +1,21 @@
 package br.com.student.portal.repository;
 
+import br.com.student.portal.dto.projection.CourseSearchRow;
+import br.com.student.portal.dto.projection.VersionStamp;
 import br.com.student.portal.entity.Course;
 import br.com.student.portal.entity.enums.CourseStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,9 +24,23 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
 
     List<Course> findByStatus(CourseStatus status);
 
-    @Query("SELECT c FROM Course c WHERE c.status = 'ACTIVE' ORDER BY c.name")
-    List<Course> findActiveCourses();
+    // Consultas de catálogo em cache; o Hibernate invalida ao gravar em courses
+    // Cursos ativos com paginação keyset por (createdAt, id); a primeira página é a mais lida
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c FROM Course c WHERE c.status = 'ACTIVE' ORDER BY c.createdAt, c.id")
+    List<Course> findActivePage(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c FROM Course c WHERE c.status = 'ACTIVE' " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Course> findActivePageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Course c WHERE c.status IN ('SCHEDULED', 'ACTIVE') ORDER BY c.startDate")
     List<Course> findEnrollableCourses();
 
@@ -31,10 +51,51 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :term, '%'))")
     List<Course> searchByTerm(@Param("term") String term);
 
+    // Fallback portável da busca (bancos sem pg_trgm); o padrão chega com %, _ e \ escapados
+    @Query("SELECT c FROM Course c WHERE LOWER(c.name) LIKE LOWER(:pattern) ESCAPE '\\' " +
+            "OR LOWER(c.description) LIKE LOWER(:pattern) ESCAPE '\\' ORDER BY c.name")
+    List<Course> searchByPattern(@Param("pattern") String pattern, Pageable pageable);
+
+    // Busca por substring servida pelos índices GIN de trigramas (V4)
+    @Query(value = "SELECT c.id AS id, c.name AS name, c.description AS description, c.status AS status, " +
+            "CAST(GREATEST(similarity(c.name, :term), word_similarity(:term, c.name), " +
+            "COALESCE(word_similarity(:term, c.description), 0) * 0.5) AS double precision) AS score " +
+            "FROM courses c " +
+            "WHERE c.name ILIKE :pattern OR c.description ILIKE :pattern " +
+            "ORDER BY score DESC, c.name " +
+            "LIMIT :limit", nativeQuery = true)
+    List<CourseSearchRow> searchTrigram(
+            @Param("term") String term,
+            @Param("pattern") String pattern,
+            @Param("limit") int limit
+    );
+
     Page<Course> findByStatus(CourseStatus status, Pageable pageable);
 
     @Query("SELECT c FROM Course c WHERE c.endDate < :date AND c.status = 'ACTIVE'")
     List<Course> findCoursesToComplete(@Param("date") LocalDate date);
 
     boolean existsByNameIgnoreCase(String name);
+
+    // Paginação keyset por (createdAt, id)
+    @Query("SELECT c FROM Course c ORDER BY c.createdAt, c.id")
+    List<Course> findPage(Pageable pageable);
+
+    @Query("SELECT c FROM Course c WHERE c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Course> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Versões para ETag: contagem e maior updated_at, sem carregar entidades
+    @Query("SELECT new br.com.student.portal.dto.projection.VersionStamp(COUNT(c), MAX(c.updatedAt)) FROM Course c WHERE c.id = :id")
+    VersionStamp findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.student.portal.dto.projection.VersionStamp(COUNT(c), MAX(c.updatedAt)) FROM Course c")
+    VersionStamp findVersion();
+
+    @Query("SELECT new br.com.student.portal.dto.projection.VersionStamp(COUNT(c), MAX(c.updatedAt)) FROM Course c WHERE c.status = 'ACTIVE'")
+    VersionStamp findActiveVersion();
 }
\ No newline at end of file
@@ -1,17 +1,26 @@
 package br.com.student.portal.repository;
 
+import br.com.student.portal.dto.projection.PaymentDueRow;
+import br.com.student.portal.dto.projection.PaymentTransition;
+import br.com.student.portal.dto.projection.PaymentView;
+import br.com.student.portal.dto.projection.StudentPaymentTotal;
 import br.com.student.portal.entity.Payment;
 import br.com.student.portal.entity.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -23,11 +32,11 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 
     List<Payment> findByStatus(PaymentStatus status);
 
-    @Query("SELECT p FROM Payment p WHERE p.dueDate < :date AND p.status = :status")
-    List<Payment> findOverduePayments(
-            @Param("date") LocalDate date,
-            @Param("status") PaymentStatus status
-    );
+    // SELECT ... FOR UPDATE: mudanças de status partem da linha travada, nunca de uma leitura desatualizada.
+    // Sem JOIN FETCH, para não travar também a linha do estudante.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") UUID id);
 
     @Query("SELECT p FROM Payment p WHERE p.student.id = :studentId AND p.status = :status")
     List<Payment> findByStudentIdAndStatus(
@@ -41,15 +50,38 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
             @Param("endDate") LocalDate endDate
     );
 
-    @Modifying
-    @Query("UPDATE Payment p SET p.status = :newStatus, p.updatedAt = CURRENT_TIMESTAMP " +
-            "WHERE p.dueDate < :date AND p.status = :currentStatus")
-    int updateOverduePayments(
+    // Marca um lote de vencidos da faixa de IDs como ATRASADO e devolve os totais movidos por estudante.
+    // SKIP LOCKED: linhas travadas por findByIdForUpdate (pagamento, cancelamento ou exclusão em
+    // andamento) ficam para a próxima execução; quem as travou aplica o próprio delta do resumo.
+    @Transactional
+    @Query(value = "WITH batch AS (" +
+            "SELECT id FROM payments WHERE status = 'PENDENTE' AND due_date < :date " +
+            "AND id BETWEEN :fromId AND :toId " +
+            "ORDER BY due_date, id LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+            "moved AS (" +
+            "UPDATE payments p SET status = 'ATRASADO', updated_at = CURRENT_TIMESTAMP " +
+            "FROM batch WHERE p.id = batch.id " +
+            "RETURNING p.student_id, p.amount) " +
+            "SELECT student_id AS studentId, COUNT(*) AS count, SUM(amount) AS amount " +
+            "FROM moved GROUP BY student_id", nativeQuery = true)
+    List<StudentPaymentTotal> markOverdueChunk(
             @Param("date") LocalDate date,
-            @Param("currentStatus") PaymentStatus currentStatus,
-            @Param("newStatus") PaymentStatus newStatus
+            @Param("fromId") UUID fromId,
+            @Param("toId") UUID toId,
+            @Param("limit") int limit
     );
 
+    // Vencimentos pendentes até o fim da janela do agendador (inclui os já vencidos)
+    @Query("SELECT new br.com.student.portal.dto.projection.PaymentDueRow(p.id, p.dueDate) " +
+            "FROM Payment p WHERE p.status = 'PENDENTE' AND p.dueDate < :until")
+    List<PaymentDueRow> findPendingDueBefore(@Param("until") LocalDate until);
+
+    @Transactional
+    @Query(value = "UPDATE payments SET status = 'ATRASADO', updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id IN (:ids) AND status = 'PENDENTE' AND due_date < :today " +
+            "RETURNING id, student_id AS studentId, amount", nativeQuery = true)
+    List<PaymentTransition> markOverdue(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today);
+
     @Query("SELECT COUNT(p) FROM Payment p WHERE p.student.id = :studentId AND p.status = :status")
     long countByStudentIdAndStatus(
             @Param("studentId") UUID studentId,
@@ -65,6 +97,59 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 
     Page<Payment> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    // Leituras projetadas: uma única consulta, sem hidratar o estudante
+    String PAYMENT_VIEW = "SELECT new br.com.student.portal.dto.projection.PaymentView(" +
+            "p.id, s.id, s.name, p.amount, p.paymentDate, p.dueDate, p.status, " +
+            "p.paymentMethod, p.transactionId, p.createdAt) " +
+            "FROM Payment p JOIN p.student s ";
+
+    @Query(PAYMENT_VIEW + "WHERE p.id = :id")
+    Optional<PaymentView> findViewById(@Param("id") UUID id);
+
+    // Paginação keyset por (dueDate, id) dentro de um status do estudante
+    @Query(PAYMENT_VIEW + "WHERE s.id = :studentId AND p.status = :status ORDER BY p.dueDate, p.id")
+    List<PaymentView> findPageByStudentIdAndStatus(
+            @Param("studentId") UUID studentId,
+            @Param("status") PaymentStatus status,
+            Pageable pageable
+    );
+
+    @Query(PAYMENT_VIEW + "WHERE s.id = :studentId AND p.status = :status " +
+            "AND (p.dueDate > :dueDate OR (p.dueDate = :dueDate AND p.id > :id)) " +
+            "ORDER BY p.dueDate, p.id")
+    List<PaymentView> findPageByStudentIdAndStatusAfter(
+            @Param("studentId") UUID studentId,
+            @Param("status") PaymentStatus status,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Paginação keyset por (createdAt, id), mais recentes primeiro
+    @Query(PAYMENT_VIEW + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentView> findPage(Pageable pageable);
+
+    @Query(PAYMENT_VIEW + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentView> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    @Query(PAYMENT_VIEW + "WHERE s.id = :studentId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentView> findPageByStudentId(@Param("studentId") UUID studentId, Pageable pageable);
+
+    @Query(PAYMENT_VIEW + "WHERE s.id = :studentId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentView> findPageByStudentIdAfter(
+            @Param("studentId") UUID studentId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
     @Query("SELECT SUM(p.amount) FROM Payment p WHERE p.student.id = :studentId AND p.status = 'PAGO'")
     java.math.BigDecimal getTotalPaidByStudent(@Param("studentId") UUID studentId);
 
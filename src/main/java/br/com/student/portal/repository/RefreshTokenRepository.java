@@ -0,0 +1,43 @@
+package br.com.student.portal.repository;
+
+import br.com.student.portal.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    // Busca pelo índice único do hash, já trazendo o usuário
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Revogação condicional: 0 linhas afetadas significa que outra rotação chegou antes (reuso)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package br.com.student.portal.repository;
+
+import br.com.student.portal.entity.StudentPaymentSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface StudentPaymentSummaryRepository extends JpaRepository<StudentPaymentSummary, UUID> {
+}
@@ -1,5 +1,7 @@
 package br.com.student.portal.repository;
 
+import br.com.student.portal.dto.projection.TaskDeadlineRow;
+import br.com.student.portal.dto.projection.VersionStamp;
 import br.com.student.portal.entity.Task;
 import br.com.student.portal.entity.enums.TaskStatus;
 import org.springframework.data.domain.Page;
@@ -8,9 +10,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -37,9 +42,33 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("end") LocalDateTime end
     );
 
-    // Buscar tarefas atrasadas (pendentes com deadline passado)
-    @Query("SELECT t FROM Task t WHERE t.deadline < :now AND t.status = 'PENDING'")
-    List<Task> findOverdueTasks(@Param("now") LocalDateTime now);
+    // Tarefas com status OVERDUE, gravado pelo DeadlineScheduler (timing wheel ou recarga
+    // periódica): uma tarefa recém-vencida pode aparecer com até um tick de atraso.
+    // Paginação keyset por (deadline, id)
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.status = 'OVERDUE' " +
+            "ORDER BY t.deadline, t.id")
+    List<Task> findOverduePage(Pageable pageable);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.status = 'OVERDUE' " +
+            "AND (t.deadline > :deadline OR (t.deadline = :deadline AND t.id > :id)) " +
+            "ORDER BY t.deadline, t.id")
+    List<Task> findOverduePageAfter(
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Prazos pendentes até o fim da janela do agendador (inclui os já vencidos)
+    @Query("SELECT new br.com.student.portal.dto.projection.TaskDeadlineRow(t.id, t.deadline) " +
+            "FROM Task t WHERE t.status = 'PENDING' AND t.deadline < :until")
+    List<TaskDeadlineRow> findPendingDeadlinesBefore(@Param("until") LocalDateTime until);
+
+    // Transição de prazo encerrado; o filtro de status/prazo descarta entradas obsoletas
+    @Transactional
+    @Query(value = "UPDATE tasks SET status = 'OVERDUE', updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id IN (:ids) AND status = 'PENDING' AND deadline <= :now " +
+            "RETURNING id", nativeQuery = true)
+    List<UUID> markOverdue(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 
     // Buscar por criador
     @Query("SELECT t FROM Task t WHERE t.createdBy.id = :userId ORDER BY t.createdAt DESC")
@@ -58,4 +87,51 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     // Buscar todas ordenadas por deadline
     List<Task> findAllByOrderByDeadlineAsc();
+
+    // Buscar com curso e criador em uma única consulta (leitura para resposta)
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.id = :id")
+    Optional<Task> findWithRelationsById(@Param("id") UUID id);
+
+    // Paginação keyset por (deadline, id)
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy ORDER BY t.deadline, t.id")
+    List<Task> findPage(Pageable pageable);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.deadline > :deadline OR (t.deadline = :deadline AND t.id > :id) " +
+            "ORDER BY t.deadline, t.id")
+    List<Task> findPageAfter(
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Paginação keyset por curso
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.course.id = :courseId ORDER BY t.deadline, t.id")
+    List<Task> findPageByCourseId(@Param("courseId") UUID courseId, Pageable pageable);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.course LEFT JOIN FETCH t.createdBy WHERE t.course.id = :courseId " +
+            "AND (t.deadline > :deadline OR (t.deadline = :deadline AND t.id > :id)) " +
+            "ORDER BY t.deadline, t.id")
+    List<Task> findPageByCourseIdAfter(
+            @Param("courseId") UUID courseId,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Versões para ETag: a resposta inclui nome do curso e do autor, então contam também
+    String TASK_VERSION = "SELECT new br.com.student.portal.dto.projection.VersionStamp(" +
+            "COUNT(t), MAX(t.updatedAt), MAX(c.updatedAt), MAX(u.updatedAt)) " +
+            "FROM Task t JOIN t.course c LEFT JOIN t.createdBy u ";
+
+    @Query(TASK_VERSION + "WHERE t.id = :id")
+    VersionStamp findVersionById(@Param("id") UUID id);
+
+    @Query(TASK_VERSION)
+    VersionStamp findVersion();
+
+    @Query(TASK_VERSION + "WHERE c.id = :courseId")
+    VersionStamp findVersionByCourseId(@Param("courseId") UUID courseId);
+
+    @Query(TASK_VERSION + "WHERE t.status = 'OVERDUE'")
+    VersionStamp findOverdueVersion();
 }
\ No newline at end of file
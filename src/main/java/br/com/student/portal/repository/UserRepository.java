@@ -1,15 +1,79 @@
 package br.com.student.portal.repository;
 
+import br.com.student.portal.dto.projection.VersionStamp;
 import br.com.student.portal.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+
+    // Buscas de identidade decidem login, unicidade e principal: transação de escrita
+    // força o primário, pois uma réplica atrasada devolveria senha ou status antigos
+    @Transactional
     Optional<User> findByEmail(String email);
 
+    @Transactional
     Optional<User> findByRegistration(String registration);
+
+    // Resolução em lote de IDs existentes (importações)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Verificação de unicidade em lote (cadastro em massa), também no primário
+    @Transactional
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Transactional
+    @Query("SELECT u.registration FROM User u WHERE u.registration IN :registrations")
+    Set<String> findExistingRegistrations(@Param("registrations") Collection<String> registrations);
+
+    // Paginação keyset por (createdAt, id)
+    @Query("SELECT u FROM User u ORDER BY u.createdAt, u.id")
+    List<User> findPage(Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.id > :id) " +
+            "ORDER BY u.createdAt, u.id")
+    List<User> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Versões para ETag: contagem e maior updated_at, sem carregar entidades
+    @Query("SELECT new br.com.student.portal.dto.projection.VersionStamp(COUNT(u), MAX(u.updatedAt)) FROM User u WHERE u.id = :id")
+    VersionStamp findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.student.portal.dto.projection.VersionStamp(COUNT(u), MAX(u.updatedAt)) FROM User u")
+    VersionStamp findVersion();
+
+    // Revogação de tokens: SQL nativo porque a coluna não é atualizável pela entidade
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET token_version = token_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementTokenVersion(@Param("id") UUID id);
+
+    // Transação de escrita: a versão é lida sempre no primário, nunca numa réplica atrasada
+    @Transactional
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") UUID id);
+
+    // Troca de custo do hash no login: não altera updated_at, pois nada visível da conta muda (ETag)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);
 }
\ No newline at end of file
@@ -1,18 +1,18 @@
 package br.com.student.portal.service;
 
+import br.com.student.portal.config.security.LoginThrottle;
 import br.com.student.portal.dto.request.UserRequest;
 import br.com.student.portal.dto.response.AuthResponse;
 import br.com.student.portal.dto.response.UserResponse;
 import br.com.student.portal.entity.User;
 import br.com.student.portal.exception.BadRequestException;
 import br.com.student.portal.exception.ForbiddenException;
+import br.com.student.portal.exception.ServiceUnavailableException;
 import br.com.student.portal.mapper.UserMapper;
 import br.com.student.portal.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import static br.com.student.portal.validation.UserValidator.validateFieldsUserRequest;
 
@@ -23,10 +23,12 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
 
-    @Transactional
+    // Sem transação envolvente: o hash da senha não deve segurar uma conexão do pool
     public UserResponse registerUser(UserRequest userRequest) {
         log.info("Iniciando registro de novo usuário: {}", userRequest.getEmail());
 
@@ -35,7 +37,7 @@ public class AuthService {
         checkRegistrationAvailability(userRequest.getRegistration());
 
         User user = userMapper.userRequestIntoUser(userRequest);
-        user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
+        user.setPassword(passwordHashingService.encode(userRequest.getPassword()));
 
         User savedUser = userRepository.save(user);
 
@@ -43,46 +45,79 @@ public class AuthService {
         return userMapper.userIntoUserResponse(savedUser);
     }
 
-    @Transactional(readOnly = true)
-    public AuthResponse login(String registration, String password) {
+    public AuthResponse login(String registration, String password, String clientIp) {
         log.debug("Tentativa de login por matrícula: {}", registration);
+        loginThrottle.checkAllowed(registration, clientIp);
 
-        User user = userRepository.findByRegistration(registration)
-                .orElseThrow(() -> {
-                    log.warn("Login falhou - matrícula não encontrada: {}", registration);
-                    return new BadRequestException(
-                            "Matrícula ou senha incorretos.");
-                });
+        try {
+            User user = userRepository.findByRegistration(registration)
+                    .orElseThrow(() -> {
+                        log.warn("Login falhou - matrícula não encontrada: {}", registration);
+                        return new BadRequestException(
+                                "Matrícula ou senha incorretos.");
+                    });
 
-        return authenticateUser(user, password);
+            return authenticateUser(user, password);
+
+        } catch (BadRequestException ex) {
+            loginThrottle.recordFailure(registration, clientIp);
+            throw ex;
+        }
     }
 
-    @Transactional(readOnly = true)
-    public AuthResponse loginByEmail(String email, String password) {
+    public AuthResponse loginByEmail(String email, String password, String clientIp) {
         log.debug("Tentativa de login por email: {}", email);
+        loginThrottle.checkAllowed(email, clientIp);
+
+        try {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> {
+                        log.warn("Login falhou - email não encontrado: {}", email);
+                        return new BadRequestException(
+                                "Email ou senha incorretos.");
+                    });
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.warn("Login falhou - email não encontrado: {}", email);
-                    return new BadRequestException(
-                            "Email ou senha incorretos.");
-                });
+            return authenticateUser(user, password);
+
+        } catch (BadRequestException ex) {
+            loginThrottle.recordFailure(email, clientIp);
+            throw ex;
+        }
+    }
+
+    /**
+     * Renova o access token a partir de um refresh token, sem verificação de senha.
+     */
+    public AuthResponse refresh(String refreshToken) {
+        var rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation.user();
+
+        validateUserAccess(user);
 
-        return authenticateUser(user, password);
+        log.debug("Access token renovado para: {}", user.getEmail());
+        return buildAuthResponse(user, rotation.refreshToken());
     }
 
     private AuthResponse authenticateUser(User user, String password) {
         validateUserAccess(user);
         validatePassword(user, password);
+        rehashPasswordIfNeeded(user, password);
 
-        String token = tokenService.generateToken(user);
+        String refreshToken = refreshTokenService.issue(user);
 
         log.info("Login realizado com sucesso: {} (ID: {})", user.getEmail(), user.getId());
+        return buildAuthResponse(user, refreshToken);
+    }
+
+    private AuthResponse buildAuthResponse(User user, String refreshToken) {
+        String token = tokenService.generateToken(user);
 
         return AuthResponse.builder()
                 .token(token)
                 .type("Bearer")
-                .expiresIn(7200L)
+                .expiresIn(tokenService.getExpirationSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpirationSeconds())
                 .userId(user.getId())
                 .userName(user.getName())
                 .userEmail(user.getEmail())
@@ -98,12 +133,26 @@ public class AuthService {
     }
 
     private void validatePassword(User user, String password) {
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             log.warn("Login falhou - senha incorreta para: {}", user.getEmail());
             throw new BadRequestException("Credenciais inválidas.");
         }
     }
 
+    private void rehashPasswordIfNeeded(User user, String password) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(password));
+            log.debug("Hash de senha atualizado para o custo atual: {}", user.getEmail());
+        } catch (ServiceUnavailableException ex) {
+            // A atualização é oportunista; fica para o próximo login
+            log.debug("Atualização do hash adiada para: {}", user.getEmail());
+        }
+    }
+
     private void checkEmailAvailability(String email) {
         if (userRepository.findByEmail(email).isPresent()) {
             log.warn("Tentativa de registro com email já existente: {}", email);
@@ -16,8 +16,9 @@ public class AuthorizationService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Credenciais sempre do primário: com readOnly a leitura iria para uma réplica atrasada
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("Buscando usuário por email: {}", email);
 
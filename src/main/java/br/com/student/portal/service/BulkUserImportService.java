@@ -0,0 +1,349 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.config.workload.WorkloadLimiters;
+import br.com.student.portal.dto.request.UserRequest;
+import br.com.student.portal.dto.response.BulkUserJobResponse;
+import br.com.student.portal.dto.response.BulkUserJobResponse.ItemError;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.exception.BadRequestException;
+import br.com.student.portal.exception.ObjectNotFoundException;
+import br.com.student.portal.exception.ServiceUnavailableException;
+import br.com.student.portal.mapper.UserMapper;
+import br.com.student.portal.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static br.com.student.portal.validation.UserValidator.validateFieldsUserRequest;
+
+/**
+ * Cadastro de usuários em massa como job assíncrono consultável.
+ * A unicidade de email e matrícula é verificada com uma consulta por lote,
+ * as senhas são codificadas em paralelo em um ForkJoinPool limitado e os
+ * inserts saem em lotes JDBC do Hibernate.
+ * <p>
+ * As senhas em texto puro só ficam no job até o hash; depois dele o job
+ * guarda apenas contadores e erros. O estado do job fica em memória no nó
+ * que recebeu o envio: consultar o job em outra instância retorna 404, então
+ * o balanceador precisa de afinidade para /api/users/bulk/**.
+ */
+@Slf4j
+@Service
+public class BulkUserImportService {
+
+    private static final String BUSY_MESSAGE =
+            "Muitos cadastros em massa em andamento. Tente novamente mais tarde.";
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkloadLimiters workloadLimiters;
+
+    private final ThreadPoolExecutor jobExecutor;
+    private final ForkJoinPool hashingPool;
+    private final Cache<UUID, Job> jobs;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public BulkUserImportService(
+            UserRepository userRepository,
+            UserMapper userMapper,
+            PasswordEncoder passwordEncoder,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            WorkloadLimiters workloadLimiters,
+            @Value("${app.bulk-users.max-concurrent-jobs:1}") int maxConcurrentJobs,
+            @Value("${app.bulk-users.max-queued-jobs:4}") int maxQueuedJobs,
+            @Value("${app.bulk-users.hashing-parallelism:0}") int hashingParallelism,
+            @Value("${app.bulk-users.chunk-size:500}") int chunkSize,
+            @Value("${app.bulk-users.max-errors:1000}") int maxErrors,
+            @Value("${app.bulk-users.job-retention-minutes:60}") long jobRetentionMinutes
+    ) {
+        int parallelism = hashingParallelism > 0
+                ? hashingParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.workloadLimiters = workloadLimiters;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+
+        this.jobExecutor = new ThreadPoolExecutor(
+                maxConcurrentJobs,
+                maxConcurrentJobs,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs),
+                new CustomizableThreadFactory("bulk-users-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // Pool próprio: não concorre com o pool de hash dos logins interativos
+        this.hashingPool = new ForkJoinPool(parallelism);
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobRetentionMinutes))
+                .maximumSize(1000)
+                .build();
+
+        log.info("Cadastro em massa inicializado (jobs simultâneos: {}, paralelismo de hash: {})",
+                maxConcurrentJobs, parallelism);
+    }
+
+    public BulkUserJobResponse submit(List<UserRequest> requests) {
+        var job = new Job(UUID.randomUUID(), List.copyOf(requests), maxErrors);
+
+        jobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.invalidate(job.id);
+            throw new ServiceUnavailableException(BUSY_MESSAGE, 30);
+        }
+
+        log.info("Job de cadastro em massa {} enfileirado com {} usuários", job.id, requests.size());
+        return job.toResponse();
+    }
+
+    /**
+     * Consulta um job deste nó; jobs de outras instâncias não são visíveis aqui.
+     */
+    public BulkUserJobResponse getJob(UUID jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ObjectNotFoundException("Job de cadastro em massa não encontrado: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job) {
+        job.start();
+
+        try {
+            List<PreparedUser> users = prepare(job);
+            insert(job, users);
+            job.finish(JobStatus.COMPLETED);
+        } catch (Exception ex) {
+            log.error("Job de cadastro em massa {} falhou", job.id, ex);
+            job.finish(JobStatus.FAILED);
+        }
+
+        log.info("Job de cadastro em massa {} finalizado: {} criados, {} rejeitados",
+                job.id, job.created.get(), job.rejected.get());
+    }
+
+    private List<PreparedUser> prepare(Job job) throws InterruptedException {
+        try {
+            return hashPasswords(validate(job));
+        } finally {
+            // Daqui em diante só os hashes existem; o job não retém as senhas recebidas
+            job.releaseRequests();
+        }
+    }
+
+    private List<Candidate> validate(Job job) {
+        List<UserRequest> requests = job.requests;
+        List<Candidate> candidates = new ArrayList<>(requests.size());
+        Set<String> batchEmails = new HashSet<>();
+        Set<String> batchRegistrations = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserRequest request = requests.get(i);
+            try {
+                validateFieldsUserRequest(request);
+                if (request.getPassword() == null || request.getPassword().isEmpty()) {
+                    throw new BadRequestException("Senha é obrigatória.");
+                }
+                if (!batchEmails.add(request.getEmail())) {
+                    throw new BadRequestException("Email duplicado no lote: " + request.getEmail());
+                }
+                if (request.getRegistration() != null && !batchRegistrations.add(request.getRegistration())) {
+                    throw new BadRequestException("Matrícula duplicada no lote: " + request.getRegistration());
+                }
+                candidates.add(new Candidate(i, request));
+            } catch (BadRequestException ex) {
+                job.reject(i, request != null ? request.getEmail() : null, ex.getMessage());
+            }
+        }
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenRegistrations = new HashSet<>();
+        for (List<String> emails : partition(batchEmails)) {
+            takenEmails.addAll(userRepository.findExistingEmails(emails));
+        }
+        for (List<String> registrations : partition(batchRegistrations)) {
+            takenRegistrations.addAll(userRepository.findExistingRegistrations(registrations));
+        }
+
+        List<Candidate> available = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            UserRequest request = candidate.request();
+            if (takenEmails.contains(request.getEmail())) {
+                job.reject(candidate.index(), request.getEmail(), "O email " + request.getEmail() + " já está cadastrado.");
+            } else if (request.getRegistration() != null && takenRegistrations.contains(request.getRegistration())) {
+                job.reject(candidate.index(), request.getEmail(),
+                        "A matrícula " + request.getRegistration() + " já está cadastrada.");
+            } else {
+                available.add(candidate);
+            }
+        }
+        return available;
+    }
+
+    private List<PreparedUser> hashPasswords(List<Candidate> candidates) throws InterruptedException {
+        try {
+            return hashingPool.submit(() -> candidates.parallelStream()
+                    .map(candidate -> {
+                        UserRequest request = candidate.request();
+                        User user = userMapper.userRequestIntoUser(request);
+                        user.setPassword(passwordEncoder.encode(request.getPassword()));
+                        return new PreparedUser(candidate.index(), request.getEmail(), user);
+                    })
+                    .toList()
+            ).get();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Falha ao codificar senhas do lote", ex.getCause());
+        }
+    }
+
+    private void insert(Job job, List<PreparedUser> prepared) {
+        for (int from = 0; from < prepared.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, prepared.size());
+            List<PreparedUser> items = prepared.subList(from, to);
+            List<User> chunk = items.stream().map(PreparedUser::user).toList();
+
+            try {
+                workloadLimiters.run(WorkloadClass.BATCH, () -> transactionTemplate.executeWithoutResult(status -> {
+                    userRepository.saveAll(chunk);
+                    // Pelo repositório a falha de flush é traduzida para DataAccessException
+                    userRepository.flush();
+                    entityManager.clear();
+                }));
+                job.created.addAndGet(chunk.size());
+                job.processed.addAndGet(chunk.size());
+            } catch (DataIntegrityViolationException | PersistenceException ex) {
+                // Concorrência com outro cadastro: o lote inteiro é desfeito e reportado
+                log.warn("Lote do job {} rejeitado por violação de integridade", job.id);
+                for (PreparedUser item : items) {
+                    job.reject(item.index(), item.email(),
+                            "Conflito de unicidade ao gravar o lote. Reenvie este usuário.");
+                }
+            }
+        }
+    }
+
+    private <T> List<List<T>> partition(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> parts = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            parts.add(list.subList(from, Math.min(from + chunkSize, list.size())));
+        }
+        return parts;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        hashingPool.shutdownNow();
+    }
+
+    private enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private record Candidate(int index, UserRequest request) {
+    }
+
+    // Usuário já com a senha codificada; guarda só o necessário para reportar erros
+    private record PreparedUser(int index, String email, User user) {
+    }
+
+    private static final class Job {
+
+        private final UUID id;
+        private final int total;
+        private final int maxErrors;
+        // Pedidos originais (com senha em texto puro), descartados após o hash
+        private volatile List<UserRequest> requests;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final ConcurrentLinkedQueue<ItemError> errors = new ConcurrentLinkedQueue<>();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(UUID id, List<UserRequest> requests, int maxErrors) {
+            this.id = id;
+            this.total = requests.size();
+            this.requests = requests;
+            this.maxErrors = maxErrors;
+        }
+
+        private void start() {
+            startedAt = LocalDateTime.now();
+            status = JobStatus.RUNNING;
+        }
+
+        private void finish(JobStatus finalStatus) {
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private void releaseRequests() {
+            requests = List.of();
+        }
+
+        private void reject(int index, String email, String message) {
+            if (rejected.incrementAndGet() <= maxErrors) {
+                errors.add(new ItemError(index, email, message));
+            }
+            processed.incrementAndGet();
+        }
+
+        private BulkUserJobResponse toResponse() {
+            return BulkUserJobResponse.builder()
+                    .jobId(id)
+                    .status(status.name())
+                    .total(total)
+                    .processed(processed.get())
+                    .created(created.get())
+                    .rejected(rejected.get())
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package br.com.student.portal.service;
 
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.config.database.DatabasePlatform;
+import br.com.student.portal.dto.projection.VersionStamp;
 import br.com.student.portal.dto.request.CourseRequest;
+import br.com.student.portal.dto.request.Cursor;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.CourseResponse;
+import br.com.student.portal.dto.response.CourseSearchResponse;
 import br.com.student.portal.entity.Course;
 import br.com.student.portal.entity.enums.CourseStatus;
 import br.com.student.portal.exception.BadRequestException;
@@ -9,18 +16,30 @@ import br.com.student.portal.exception.ObjectNotFoundException;
 import br.com.student.portal.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Workload(WorkloadClass.INTERACTIVE)
 @RequiredArgsConstructor
 public class CourseService {
 
+    private static final int MIN_SEARCH_LENGTH = 3;
+    private static final int MAX_SEARCH_LENGTH = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int SNIPPET_LENGTH = 160;
+
     private final CourseRepository courseRepository;
+    private final DatabasePlatform databasePlatform;
 
     @Transactional(readOnly = true)
     public CourseResponse getCourseById(UUID id) {
@@ -28,19 +47,92 @@ public class CourseService {
         return mapToResponse(findCourseOrThrow(id));
     }
 
+    /**
+     * ETags calculadas só com contagem e updated_at. Incluem a data atual
+     * porque {@code isActive} da resposta depende dela.
+     */
     @Transactional(readOnly = true)
-    public List<CourseResponse> getAllCourses() {
-        log.debug("Buscando todos os cursos");
-        return courseRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .toList();
+    public String getCourseETag(UUID id) {
+        VersionStamp version = courseRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new ObjectNotFoundException("Curso não encontrado com ID: " + id);
+        }
+        return version.toETag("course:" + id + ":" + LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public String getCoursesETag(String cursor, Integer size) {
+        return courseRepository.findVersion()
+                .toETag("courses:" + cursor + ":" + Cursor.pageSize(size) + ":" + LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public String getActiveCoursesETag(String cursor, Integer size) {
+        return courseRepository.findActiveVersion()
+                .toETag("courses:active:" + cursor + ":" + Cursor.pageSize(size) + ":" + LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CourseResponse> getAllCourses(String cursor, Integer size) {
+        log.debug("Buscando página de cursos");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<Course> rows;
+        if (cursor == null) {
+            rows = courseRepository.findPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = courseRepository.findPageAfter(after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::mapToResponse,
+                course -> new Cursor(course.getCreatedAt(), course.getId()));
     }
 
     @Transactional(readOnly = true)
-    public List<CourseResponse> getActiveCourses() {
-        log.debug("Buscando cursos ativos");
-        return courseRepository.findActiveCourses().stream()
-                .map(this::mapToResponse)
+    public CursorPageResponse<CourseResponse> getActiveCourses(String cursor, Integer size) {
+        log.debug("Buscando página de cursos ativos");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<Course> rows;
+        if (cursor == null) {
+            rows = courseRepository.findActivePage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = courseRepository.findActivePageAfter(after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::mapToResponse,
+                course -> new Cursor(course.getCreatedAt(), course.getId()));
+    }
+
+    /**
+     * Busca cursos por substring no nome ou descrição, com destaque dos trechos encontrados.
+     */
+    @Transactional(readOnly = true)
+    public List<CourseSearchResponse> searchCourses(String query, Integer limit) {
+        String term = query == null ? "" : query.trim();
+        if (term.length() < MIN_SEARCH_LENGTH || term.length() > MAX_SEARCH_LENGTH) {
+            throw new BadRequestException("O termo de busca deve ter entre " + MIN_SEARCH_LENGTH +
+                    " e " + MAX_SEARCH_LENGTH + " caracteres.");
+        }
+        int resultLimit = limit == null || limit <= 0 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+
+        log.debug("Buscando cursos pelo termo: {}", term);
+
+        String pattern = "%" + escapeLike(term) + "%";
+        if (databasePlatform.isPostgres()) {
+            return courseRepository.searchTrigram(term, pattern, resultLimit).stream()
+                    .map(row -> toSearchResponse(row.getId(), row.getName(), row.getDescription(),
+                            CourseStatus.valueOf(row.getStatus()), row.getScore(), term))
+                    .toList();
+        }
+
+        return courseRepository.searchByPattern(pattern, PageRequest.ofSize(resultLimit)).stream()
+                .map(course -> toSearchResponse(course.getId(), course.getName(), course.getDescription(),
+                        course.getStatus(), null, term))
                 .toList();
     }
 
@@ -96,6 +188,64 @@ public class CourseService {
         log.info("Curso deletado: {}", id);
     }
 
+    private CourseSearchResponse toSearchResponse(
+            UUID id, String name, String description, CourseStatus status, Double score, String term) {
+        return CourseSearchResponse.builder()
+                .id(id)
+                .name(name)
+                .status(status)
+                .statusDisplayName(status.getDisplayName())
+                .nameHighlighted(highlight(name, term))
+                .descriptionSnippet(highlight(snippet(description, term), term))
+                .score(score)
+                .build();
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // Recorta a descrição em volta da primeira ocorrência do termo
+    private static String snippet(String text, String term) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+
+        int match = indexOfIgnoreCase(text, term, 0);
+        int start = match < 0 ? 0 : Math.max(0, match - SNIPPET_LENGTH / 3);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+    }
+
+    // Escapa o HTML do texto e envolve cada ocorrência do termo em <mark>
+    private static String highlight(String text, String term) {
+        if (text == null) {
+            return null;
+        }
+
+        var result = new StringBuilder(text.length() + 16);
+        int position = 0;
+        int match;
+        while ((match = indexOfIgnoreCase(text, term, position)) >= 0) {
+            result.append(HtmlUtils.htmlEscape(text.substring(position, match)))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match, match + term.length())))
+                    .append("</mark>");
+            position = match + term.length();
+        }
+        return result.append(HtmlUtils.htmlEscape(text.substring(position))).toString();
+    }
+
+    private static int indexOfIgnoreCase(String text, String term, int from) {
+        for (int i = from; i <= text.length() - term.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private Course findCourseOrThrow(UUID id) {
         return courseRepository.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException("Curso não encontrado com ID: " + id));
@@ -0,0 +1,167 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.dto.response.DashboardResponse;
+import br.com.student.portal.dto.response.DashboardSection;
+import br.com.student.portal.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Monta o painel do usuário consultando cursos, tarefas e pagamentos em
+ * paralelo, num pool limitado. Cada seção tem seu próprio timeout: uma
+ * seção lenta ou com erro volta marcada, sem derrubar as demais.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    private static final String TIMEOUT_MESSAGE = "Tempo limite excedido ao carregar a seção.";
+    private static final String ERROR_MESSAGE = "Falha ao carregar a seção.";
+    private static final String UNAVAILABLE_MESSAGE = "Serviço sobrecarregado. Tente novamente em instantes.";
+
+    private final CourseService courseService;
+    private final TaskService taskService;
+    private final PaymentService paymentService;
+    private final ThreadPoolExecutor pool;
+    private final Executor executor;
+    private final long sectionTimeoutMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public DashboardService(
+            CourseService courseService,
+            TaskService taskService,
+            PaymentService paymentService,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.threads:4}") int threads,
+            @Value("${app.dashboard.queue-capacity:64}") int queueCapacity,
+            @Value("${app.dashboard.section-timeout-ms:1500}") long sectionTimeoutMillis
+    ) {
+        this.courseService = courseService;
+        this.taskService = taskService;
+        this.paymentService = paymentService;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+
+        this.pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("dashboard-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // Propaga o usuário autenticado para as threads do pool
+        this.executor = new DelegatingSecurityContextExecutor(pool);
+
+        this.rejectedCounter = Counter.builder("dashboard.section.rejected")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.pool.queue.depth", pool, p -> p.getQueue().size())
+                .register(meterRegistry);
+
+        log.info("Pool do painel inicializado (threads: {}, fila: {}, timeout por seção: {} ms)",
+                threads, queueCapacity, sectionTimeoutMillis);
+    }
+
+    public DashboardResponse getDashboard(User user) {
+        UUID studentId = user.getId();
+        log.debug("Montando painel do usuário: {}", studentId);
+
+        // Listas limitadas à primeira página; o restante segue pelo nextCursor de cada endpoint
+        var activeCourses = section("activeCourses", () -> courseService.getActiveCourses(null, null));
+        var overdueTasks = section("overdueTasks", () -> taskService.getOverdueTasks(null, null));
+        var pendingPayments = section("pendingPayments",
+                () -> paymentService.getPendingPaymentsByStudent(studentId, null, null));
+        var hasPendingPayments = section("hasPendingPayments",
+                () -> paymentService.hasStudentPendingPayments(studentId));
+
+        // Cada seção já termina em no máximo sectionTimeoutMillis, com dados ou com erro
+        CompletableFuture.allOf(activeCourses, overdueTasks, pendingPayments, hasPendingPayments).join();
+
+        var response = DashboardResponse.builder()
+                .userId(studentId)
+                .activeCourses(activeCourses.join())
+                .overdueTasks(overdueTasks.join())
+                .pendingPayments(pendingPayments.join())
+                .hasPendingPayments(hasPendingPayments.join())
+                .build();
+
+        response.setPartial(response.getActiveCourses().getStatus() != DashboardSection.Status.OK
+                || response.getOverdueTasks().getStatus() != DashboardSection.Status.OK
+                || response.getPendingPayments().getStatus() != DashboardSection.Status.OK
+                || response.getHasPendingPayments().getStatus() != DashboardSection.Status.OK);
+        return response;
+    }
+
+    /**
+     * Dispara uma seção no pool. O timeout não interrompe a consulta em
+     * andamento (interromper JDBC pode invalidar a conexão); apenas deixa
+     * de esperar por ela.
+     */
+    private <T> CompletableFuture<DashboardSection<T>> section(String name, Supplier<T> loader) {
+        long start = System.nanoTime();
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(loader, executor);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("Pool do painel saturado; seção {} indisponível", name);
+            return CompletableFuture.completedFuture(
+                    DashboardSection.failed(DashboardSection.Status.UNAVAILABLE, UNAVAILABLE_MESSAGE, 0));
+        }
+
+        return future
+                .orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((data, ex) -> toSection(name, data, ex, System.nanoTime() - start));
+    }
+
+    private <T> DashboardSection<T> toSection(String name, T data, Throwable ex, long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+
+        DashboardSection<T> section;
+        if (cause == null) {
+            section = DashboardSection.ok(data, elapsedMs);
+        } else if (cause instanceof TimeoutException) {
+            log.warn("Seção {} do painel excedeu {} ms", name, sectionTimeoutMillis);
+            section = DashboardSection.failed(DashboardSection.Status.TIMEOUT, TIMEOUT_MESSAGE, elapsedMs);
+        } else {
+            log.warn("Seção {} do painel falhou: {}", name, cause.getMessage());
+            section = DashboardSection.failed(DashboardSection.Status.ERROR, ERROR_MESSAGE, elapsedMs);
+        }
+
+        Timer.builder("dashboard.section")
+                .tag("section", name)
+                .tag("status", section.getStatus().name())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return section;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.config.workload.WorkloadLimiters;
+import br.com.student.portal.dto.projection.StudentPaymentTotal;
+import br.com.student.portal.entity.JobCheckpoint;
+import br.com.student.portal.entity.enums.PaymentStatus;
+import br.com.student.portal.repository.JobCheckpointRepository;
+import br.com.student.portal.repository.PaymentRepository;
+import br.com.student.portal.service.PaymentSummaryService.Delta;
+import br.com.student.portal.service.job.JobCoordinator;
+import br.com.student.portal.service.job.KeyRange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Marca pagamentos vencidos como ATRASADO em lotes curtos, cada um em
+ * sua própria transação, para não segurar locks sobre a tabela inteira
+ * enquanto estudantes pagam. O progresso fica em job_checkpoints e uma
+ * execução interrompida é retomada na inicialização.
+ * A varredura é dividida em faixas de ID coordenadas pelo {@link JobCoordinator},
+ * então várias instâncias repartem o trabalho em vez de repeti-lo.
+ * Pagamentos travados pelas alterações interativas do {@link PaymentService}
+ * são pulados no lote, então cada transição entra no resumo uma única vez.
+ */
+@Slf4j
+@Service
+public class OverduePaymentSweeper {
+
+    static final String JOB_NAME = "overdue-payments";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentSummaryService paymentSummaryService;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final JobCoordinator jobCoordinator;
+    private final WorkloadLimiters workloadLimiters;
+    private final int chunkSize;
+    private final int partitions;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Timer runTimer;
+    private final Timer chunkTimer;
+    private final Counter markedCounter;
+
+    public OverduePaymentSweeper(
+            PaymentRepository paymentRepository,
+            PaymentSummaryService paymentSummaryService,
+            JobCheckpointRepository checkpointRepository,
+            TransactionTemplate transactionTemplate,
+            TaskScheduler taskScheduler,
+            JobCoordinator jobCoordinator,
+            WorkloadLimiters workloadLimiters,
+            MeterRegistry meterRegistry,
+            @Value("${app.jobs.overdue-payments.chunk-size:1000}") int chunkSize,
+            @Value("${app.jobs.overdue-payments.partitions:4}") int partitions
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentSummaryService = paymentSummaryService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.jobCoordinator = jobCoordinator;
+        this.workloadLimiters = workloadLimiters;
+        this.chunkSize = chunkSize;
+        this.partitions = partitions;
+
+        this.runTimer = Timer.builder("payments.overdue.sweep")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("payments.overdue.sweep.chunk")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.markedCounter = Counter.builder("payments.overdue.marked")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.jobs.overdue-payments.cron:0 0 0 * * ?}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Varredura de pagamentos atrasados já em execução; ignorando disparo");
+            return;
+        }
+
+        try {
+            runTimer.record(() -> jobCoordinator.runPartitioned(JOB_NAME, partitions, this::run));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Retoma uma varredura que ficou como RUNNING (processo encerrado no meio).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        List<String> names = KeyRange.split(partitions).stream()
+                .map(range -> range.qualify(JOB_NAME))
+                .toList();
+
+        long interrupted = checkpointRepository.findAllById(names).stream()
+                .filter(JobCheckpoint::isRunning)
+                .count();
+        if (interrupted > 0) {
+            log.info("Retomando varredura de pagamentos atrasados interrompida ({} partições pendentes)",
+                    interrupted);
+            taskScheduler.schedule(this::sweep, Instant.now());
+        }
+    }
+
+    private long run(KeyRange range) {
+        String name = range.qualify(JOB_NAME);
+        JobCheckpoint checkpoint = startOrResume(name);
+        LocalDate cutoff = checkpoint.getCutoffDate();
+        log.info("Executando atualização de pagamentos atrasados {} (vencimento antes de {})", name, cutoff);
+
+        try {
+            int moved;
+            do {
+                moved = chunkTimer.record(() -> processChunk(name, cutoff, range));
+            } while (moved > 0);
+
+            JobCheckpoint finished = finish(name, JobCheckpoint.Status.COMPLETED);
+            log.info("Atualização {} concluída. {} pagamentos marcados como ATRASADO em {} lotes",
+                    name, finished.getProcessed(), finished.getChunks());
+            return finished.getProcessed();
+        } catch (RuntimeException ex) {
+            finish(name, JobCheckpoint.Status.FAILED);
+            log.warn("Varredura {} falhou; lotes já confirmados foram mantidos", name);
+            throw ex;
+        }
+    }
+
+    private JobCheckpoint startOrResume(String name) {
+        return transactionTemplate.execute(status -> {
+            JobCheckpoint checkpoint = checkpointRepository.findById(name).orElse(null);
+            if (checkpoint != null && checkpoint.isRunning()) {
+                return checkpoint;
+            }
+
+            if (checkpoint == null) {
+                checkpoint = JobCheckpoint.builder().jobName(name).build();
+            }
+            checkpoint.setStatus(JobCheckpoint.Status.RUNNING);
+            checkpoint.setCutoffDate(LocalDate.now());
+            checkpoint.setProcessed(0);
+            checkpoint.setChunks(0);
+            checkpoint.setStartedAt(LocalDateTime.now());
+            checkpoint.setFinishedAt(null);
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    /**
+     * Cada lote pede uma permissão BATCH: sob carga dos estudantes a varredura
+     * espera entre lotes em vez de disputar o pool de conexões.
+     */
+    private int processChunk(String name, LocalDate cutoff, KeyRange range) {
+        Integer moved = workloadLimiters.call(WorkloadClass.BATCH, () -> transactionTemplate.execute(status -> {
+            List<StudentPaymentTotal> totals = paymentRepository.markOverdueChunk(
+                    cutoff, range.from(), range.to(), chunkSize);
+            if (totals.isEmpty()) {
+                return 0;
+            }
+
+            Map<UUID, Delta> deltas = new HashMap<>();
+            int count = 0;
+            for (StudentPaymentTotal total : totals) {
+                deltas.put(total.getStudentId(), new Delta()
+                        .add(PaymentStatus.PENDENTE, -total.getCount(), total.getAmount())
+                        .add(PaymentStatus.ATRASADO, total.getCount(), total.getAmount()));
+                count += (int) total.getCount();
+            }
+            paymentSummaryService.apply(deltas);
+
+            JobCheckpoint checkpoint = checkpointRepository.findById(name).orElseThrow();
+            checkpoint.setProcessed(checkpoint.getProcessed() + count);
+            checkpoint.setChunks(checkpoint.getChunks() + 1);
+            return count;
+        }));
+
+        int count = moved != null ? moved : 0;
+        markedCounter.increment(count);
+        return count;
+    }
+
+    private JobCheckpoint finish(String name, JobCheckpoint.Status finalStatus) {
+        return transactionTemplate.execute(status -> {
+            JobCheckpoint checkpoint = checkpointRepository.findById(name).orElseThrow();
+            checkpoint.setStatus(finalStatus);
+            checkpoint.setFinishedAt(LocalDateTime.now());
+            return checkpoint;
+        });
+    }
+}
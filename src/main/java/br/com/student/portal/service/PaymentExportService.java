@@ -0,0 +1,248 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.dto.request.DataFormat;
+import br.com.student.portal.dto.request.PaymentExportFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Exporta pagamentos direto do cursor JDBC para a resposta HTTP.
+ * Nenhuma entidade é carregada no contexto de persistência, então o uso
+ * de heap é constante independentemente da quantidade de linhas.
+ */
+@Slf4j
+@Service
+public class PaymentExportService {
+
+    private static final String SELECT_PAYMENTS = """
+            SELECT p.id, p.student_id, u.name AS student_name, p.amount, p.payment_date,
+                   p.due_date, p.status, p.payment_method, p.transaction_id, p.created_at
+            FROM payments p
+            JOIN users u ON u.id = p.student_id
+            WHERE 1 = 1
+            """;
+
+    private static final String[] CSV_HEADER = {
+            "id", "studentId", "studentName", "amount", "paymentDate",
+            "dueDate", "status", "paymentMethod", "transactionId", "createdAt"
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PaymentExportService(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${app.export.fetch-size:500}") int fetchSize
+    ) {
+        // Com autocommit desligado (transação), o pgjdbc usa cursor e busca em lotes
+        var template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.objectMapper = objectMapper;
+    }
+
+    @Workload(WorkloadClass.EXPORT)
+    @Transactional(readOnly = true)
+    public long export(PaymentExportFilter filter, DataFormat format, OutputStream outputStream) {
+        var sql = new StringBuilder(SELECT_PAYMENTS);
+        var params = new MapSqlParameterSource();
+
+        if (filter.status() != null) {
+            sql.append(" AND p.status = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.dueFrom() != null) {
+            sql.append(" AND p.due_date >= :dueFrom");
+            params.addValue("dueFrom", filter.dueFrom());
+        }
+        if (filter.dueTo() != null) {
+            sql.append(" AND p.due_date <= :dueTo");
+            params.addValue("dueTo", filter.dueTo());
+        }
+        if (filter.studentId() != null) {
+            sql.append(" AND p.student_id = :studentId");
+            params.addValue("studentId", filter.studentId());
+        }
+        sql.append(" ORDER BY p.due_date, p.id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        var rowWriter = format == DataFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        try {
+            rowWriter.start();
+            jdbcTemplate.query(sql.toString(), params, rowWriter);
+            rowWriter.finish();
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao escrever exportação de pagamentos", ex);
+        }
+
+        log.info("Exportação de pagamentos concluída: {} linhas ({})", rowWriter.rows, format);
+        return rowWriter.rows;
+    }
+
+    private abstract static class RowWriter implements RowCallbackHandler {
+
+        protected long rows;
+
+        void start() throws IOException {
+        }
+
+        void finish() throws IOException {
+        }
+
+        abstract void write(ResultSet rs) throws IOException, SQLException;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                write(rs);
+                rows++;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private final class NdjsonRowWriter extends RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // O separador de linha é o '\n' de cada registro; sem isso o Jackson prefixa um espaço
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        void write(ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeStringField("id", rs.getString("id"));
+            generator.writeStringField("studentId", rs.getString("student_id"));
+            generator.writeStringField("studentName", rs.getString("student_name"));
+            BigDecimal amount = rs.getBigDecimal("amount");
+            if (amount != null) {
+                generator.writeNumberField("amount", amount);
+            } else {
+                generator.writeNullField("amount");
+            }
+            generator.writeStringField("paymentDate", format(rs.getDate("payment_date")));
+            generator.writeStringField("dueDate", format(rs.getDate("due_date")));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("paymentMethod", rs.getString("payment_method"));
+            generator.writeStringField("transactionId", rs.getString("transaction_id"));
+            generator.writeStringField("createdAt", format(rs.getTimestamp("created_at")));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static final class CsvRowWriter extends RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void start() throws IOException {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        @Override
+        void write(ResultSet rs) throws IOException, SQLException {
+            BigDecimal amount = rs.getBigDecimal("amount");
+            String[] values = {
+                    rs.getString("id"),
+                    rs.getString("student_id"),
+                    rs.getString("student_name"),
+                    amount != null ? amount.toPlainString() : null,
+                    format(rs.getDate("payment_date")),
+                    format(rs.getDate("due_date")),
+                    rs.getString("status"),
+                    rs.getString("payment_method"),
+                    rs.getString("transaction_id"),
+                    format(rs.getTimestamp("created_at"))
+            };
+
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        private static String escapeCsv(String value) {
+            if (value == null) {
+                return "";
+            }
+            value = neutralizeFormula(value);
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        // Planilhas interpretam células iniciadas por =, +, -, @, TAB ou CR como fórmula (CSV injection)
+        private static String neutralizeFormula(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            return switch (value.charAt(0)) {
+                case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+                default -> value;
+            };
+        }
+    }
+
+    private static String format(Date date) {
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -0,0 +1,397 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.config.database.DatabasePlatform;
+import br.com.student.portal.dto.request.DataFormat;
+import br.com.student.portal.dto.response.PaymentImportReport;
+import br.com.student.portal.dto.response.PaymentImportReport.RowError;
+import br.com.student.portal.entity.enums.PaymentMethod;
+import br.com.student.portal.entity.enums.PaymentStatus;
+import br.com.student.portal.exception.BadRequestException;
+import br.com.student.portal.repository.UserRepository;
+import br.com.student.portal.service.PaymentSummaryService.Delta;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Importa pagamentos em massa a partir de CSV ou NDJSON.
+ * O arquivo é validado em uma única passada, os estudantes são resolvidos
+ * em lotes e as linhas válidas são gravadas via COPY no PostgreSQL
+ * (ou JDBC batch nos demais bancos). Linhas inválidas vão para o relatório.
+ */
+@Slf4j
+@Service
+public class PaymentImportService {
+
+    private static final String COPY_PAYMENTS =
+            "COPY payments (student_id, amount, due_date, payment_method, status) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_PAYMENT =
+            "INSERT INTO payments (id, student_id, amount, due_date, payment_method, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("studentId", "amount", "dueDate");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final DatabasePlatform databasePlatform;
+    private final PaymentSummaryService paymentSummaryService;
+    private final ObjectReader jsonReader;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public PaymentImportService(
+            DataSource dataSource,
+            UserRepository userRepository,
+            DatabasePlatform databasePlatform,
+            PaymentSummaryService paymentSummaryService,
+            ObjectMapper objectMapper,
+            @Value("${app.import.chunk-size:5000}") int chunkSize,
+            @Value("${app.import.max-errors:1000}") int maxErrors
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.userRepository = userRepository;
+        this.databasePlatform = databasePlatform;
+        this.paymentSummaryService = paymentSummaryService;
+        this.jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Importa as linhas válidas em uma única transação. Falhas de banco
+     * desfazem toda a importação; erros de conteúdo apenas rejeitam a linha.
+     */
+    @Workload(WorkloadClass.BATCH)
+    @Transactional
+    public PaymentImportReport importPayments(InputStream inputStream, DataFormat format) {
+        long startedAt = System.currentTimeMillis();
+        var progress = new Progress(maxErrors);
+
+        try (var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            RowParser parser = format == DataFormat.CSV ? new CsvRowParser(reader.readLine()) : new NdjsonRowParser();
+            long lineNumber = format == DataFormat.CSV ? 1 : 0;
+            List<PaymentRow> chunk = new ArrayList<>(chunkSize);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                progress.totalRows++;
+                try {
+                    chunk.add(parser.parse(lineNumber, line));
+                } catch (IllegalArgumentException ex) {
+                    progress.reject(lineNumber, ex.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    loadChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                loadChunk(chunk, progress);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao ler arquivo de importação", ex);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("Importação de pagamentos concluída: {} importados, {} rejeitados em {} ms ({})",
+                progress.imported, progress.rejected, elapsed, format);
+
+        return PaymentImportReport.builder()
+                .totalRows(progress.totalRows)
+                .imported(progress.imported)
+                .rejected(progress.rejected)
+                .elapsedMillis(elapsed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.rejected > progress.errors.size())
+                .build();
+    }
+
+    private void loadChunk(List<PaymentRow> chunk, Progress progress) {
+        Set<UUID> studentIds = new HashSet<>();
+        for (PaymentRow row : chunk) {
+            studentIds.add(row.studentId());
+        }
+        Set<UUID> existing = userRepository.findExistingIds(studentIds);
+
+        List<PaymentRow> valid = new ArrayList<>(chunk.size());
+        for (PaymentRow row : chunk) {
+            if (existing.contains(row.studentId())) {
+                valid.add(row);
+            } else {
+                progress.reject(row.line(), "Estudante não encontrado com ID: " + row.studentId());
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        if (databasePlatform.isPostgres()) {
+            copyIn(valid);
+        } else {
+            batchInsert(valid);
+        }
+        paymentSummaryService.apply(summaryDeltas(valid));
+        progress.imported += valid.size();
+    }
+
+    private static Map<UUID, Delta> summaryDeltas(List<PaymentRow> rows) {
+        Map<UUID, Delta> deltas = new HashMap<>();
+        for (PaymentRow row : rows) {
+            deltas.computeIfAbsent(row.studentId(), id -> new Delta())
+                    .add(PaymentStatus.PENDENTE, 1, row.amount());
+        }
+        return deltas;
+    }
+
+    private void copyIn(List<PaymentRow> rows) {
+        var csv = new StringBuilder(rows.size() * 80);
+        for (PaymentRow row : rows) {
+            csv.append(row.studentId()).append(',')
+                    .append(row.amount().toPlainString()).append(',')
+                    .append(row.dueDate()).append(',')
+                    .append(row.paymentMethod() != null ? row.paymentMethod().name() : "").append(',')
+                    .append(PaymentStatus.PENDENTE.name()).append('\n');
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_PAYMENTS, new StringReader(csv.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void batchInsert(List<PaymentRow> rows) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, row.studentId());
+            ps.setBigDecimal(3, row.amount());
+            ps.setObject(4, row.dueDate());
+            ps.setString(5, row.paymentMethod() != null ? row.paymentMethod().name() : null);
+            ps.setString(6, PaymentStatus.PENDENTE.name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private static PaymentRow toRow(long line, String studentId, String amount, String dueDate, String method) {
+        String rawStudentId = required(studentId, "studentId");
+        String rawAmount = required(amount, "amount");
+        String rawDueDate = required(dueDate, "dueDate");
+
+        UUID parsedStudentId;
+        try {
+            parsedStudentId = UUID.fromString(rawStudentId);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("studentId inválido: " + studentId);
+        }
+
+        BigDecimal parsedAmount;
+        try {
+            parsedAmount = new BigDecimal(rawAmount);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("amount inválido: " + amount);
+        }
+        if (parsedAmount.signum() <= 0) {
+            throw new IllegalArgumentException("Valor deve ser maior que zero");
+        }
+        if (parsedAmount.scale() > 2 || parsedAmount.precision() - parsedAmount.scale() > 8) {
+            throw new IllegalArgumentException("amount fora do formato NUMERIC(10,2): " + amount);
+        }
+
+        LocalDate parsedDueDate;
+        try {
+            parsedDueDate = LocalDate.parse(rawDueDate);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("dueDate inválido (use AAAA-MM-DD): " + dueDate);
+        }
+
+        PaymentMethod parsedMethod = null;
+        if (method != null && !method.isBlank()) {
+            try {
+                parsedMethod = PaymentMethod.valueOf(method.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("paymentMethod inválido: " + method);
+            }
+        }
+
+        return new PaymentRow(line, parsedStudentId, parsedAmount, parsedDueDate, parsedMethod);
+    }
+
+    private static String required(String value, String column) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(column + " é obrigatório");
+        }
+        return value.trim();
+    }
+
+    private interface RowParser {
+        PaymentRow parse(long line, String content);
+    }
+
+    private static final class CsvRowParser implements RowParser {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private CsvRowParser(String header) {
+            if (header == null || header.isBlank()) {
+                throw new BadRequestException("Arquivo CSV vazio ou sem cabeçalho.");
+            }
+
+            List<String> names = splitCsv(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim(), i);
+            }
+
+            for (String column : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new BadRequestException("Coluna obrigatória ausente no cabeçalho CSV: " + column);
+                }
+            }
+        }
+
+        @Override
+        public PaymentRow parse(long line, String content) {
+            List<String> values = splitCsv(content);
+            return toRow(line, value(values, "studentId"), value(values, "amount"),
+                    value(values, "dueDate"), value(values, "paymentMethod"));
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < values.size() ? values.get(index) : null;
+        }
+
+        private static List<String> splitCsv(String line) {
+            List<String> values = new ArrayList<>();
+            var current = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("Aspas não fechadas na linha");
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+
+    private final class NdjsonRowParser implements RowParser {
+
+        @Override
+        public PaymentRow parse(long line, String content) {
+            JsonNode node;
+            try {
+                node = jsonReader.readTree(content);
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("JSON inválido");
+            }
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException("Cada linha deve ser um objeto JSON");
+            }
+
+            return toRow(line, text(node, "studentId"), text(node, "amount"),
+                    text(node, "dueDate"), text(node, "paymentMethod"));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+
+    private record PaymentRow(
+            long line,
+            UUID studentId,
+            BigDecimal amount,
+            LocalDate dueDate,
+            PaymentMethod paymentMethod
+    ) {
+    }
+
+    private static final class Progress {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long rejected;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package br.com.student.portal.service;
 
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.dto.projection.PaymentView;
+import br.com.student.portal.dto.request.Cursor;
 import br.com.student.portal.dto.request.PaymentRequest;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.PaymentResponse;
+import br.com.student.portal.dto.response.StudentPaymentSummaryResponse;
 import br.com.student.portal.entity.Payment;
 import br.com.student.portal.entity.User;
 import br.com.student.portal.entity.enums.PaymentStatus;
@@ -9,55 +15,90 @@ import br.com.student.portal.exception.BadRequestException;
 import br.com.student.portal.exception.ObjectNotFoundException;
 import br.com.student.portal.repository.PaymentRepository;
 import br.com.student.portal.repository.UserRepository;
+import br.com.student.portal.service.deadline.DeadlineScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Workload(WorkloadClass.INTERACTIVE)
 @RequiredArgsConstructor
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
+    private final PaymentSummaryService paymentSummaryService;
+    private final DeadlineScheduler deadlineScheduler;
 
+    @Workload(WorkloadClass.REPORTING)
     @Transactional(readOnly = true)
-    public List<PaymentResponse> getAllPayments() {
-        log.debug("Buscando todos os pagamentos");
-        return paymentRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .toList();
+    public CursorPageResponse<PaymentResponse> getAllPayments(String cursor, Integer size) {
+        log.debug("Buscando página de pagamentos");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<PaymentView> rows;
+        if (cursor == null) {
+            rows = paymentRepository.findPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = paymentRepository.findPageAfter(after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::viewToResponse, this::cursorOf);
     }
 
     @Transactional(readOnly = true)
     public PaymentResponse getPaymentById(UUID id) {
         log.debug("Buscando pagamento por ID: {}", id);
-        Payment payment = findPaymentOrThrow(id);
-        return mapToResponse(payment);
+        PaymentView payment = paymentRepository.findViewById(id)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        "Pagamento não encontrado com ID: " + id));
+        return viewToResponse(payment);
     }
 
     @Transactional(readOnly = true)
-    public List<PaymentResponse> getPaymentsByStudentId(UUID studentId) {
-        log.debug("Buscando pagamentos do estudante: {}", studentId);
+    public CursorPageResponse<PaymentResponse> getPaymentsByStudentId(UUID studentId, String cursor, Integer size) {
+        log.debug("Buscando página de pagamentos do estudante: {}", studentId);
         validateStudentExists(studentId);
-        return paymentRepository.findByStudentId(studentId).stream()
-                .map(this::mapToResponse)
-                .toList();
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<PaymentView> rows;
+        if (cursor == null) {
+            rows = paymentRepository.findPageByStudentId(studentId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = paymentRepository.findPageByStudentIdAfter(studentId, after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::viewToResponse, this::cursorOf);
     }
 
     @Transactional(readOnly = true)
-    public List<PaymentResponse> getPendingPaymentsByStudent(UUID studentId) {
-        log.debug("Buscando pagamentos pendentes do estudante: {}", studentId);
-        return paymentRepository.findByStudentIdAndStatus(studentId, PaymentStatus.PENDENTE)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+    public CursorPageResponse<PaymentResponse> getPendingPaymentsByStudent(UUID studentId, String cursor, Integer size) {
+        log.debug("Buscando página de pagamentos pendentes do estudante: {}", studentId);
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<PaymentView> rows;
+        if (cursor == null) {
+            rows = paymentRepository.findPageByStudentIdAndStatus(studentId, PaymentStatus.PENDENTE, limit);
+        } else {
+            // O cursor guarda o vencimento como início do dia
+            Cursor after = Cursor.decode(cursor);
+            rows = paymentRepository.findPageByStudentIdAndStatusAfter(studentId, PaymentStatus.PENDENTE,
+                    after.position().toLocalDate(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::viewToResponse,
+                view -> new Cursor(view.dueDate().atStartOfDay(), view.id()));
     }
 
     @Transactional
@@ -78,6 +119,8 @@ public class PaymentService {
                 .build();
 
         var savedPayment = paymentRepository.save(payment);
+        paymentSummaryService.recordCreated(student.getId(), savedPayment.getStatus(), savedPayment.getAmount());
+        deadlineScheduler.schedulePayment(savedPayment.getId(), savedPayment.getDueDate());
         log.info("Pagamento criado com ID: {}", savedPayment.getId());
 
         return mapToResponse(savedPayment);
@@ -87,15 +130,17 @@ public class PaymentService {
     public PaymentResponse markAsPaid(UUID id) {
         log.info("Marcando pagamento {} como pago", id);
 
-        Payment payment = findPaymentOrThrow(id);
+        Payment payment = findPaymentForUpdateOrThrow(id);
 
         if (!payment.allowsModification()) {
             throw new BadRequestException(
                     "Pagamento não pode ser alterado no status atual: " + payment.getStatus());
         }
 
+        PaymentStatus previousStatus = payment.getStatus();
         payment.markAsPaid();
         Payment updatedPayment = paymentRepository.save(payment);
+        recordTransition(updatedPayment, previousStatus);
 
         log.info("Pagamento {} marcado como PAGO", id);
         return mapToResponse(updatedPayment);
@@ -105,15 +150,17 @@ public class PaymentService {
     public PaymentResponse cancelPayment(UUID id) {
         log.info("Cancelando pagamento {}", id);
 
-        var payment = findPaymentOrThrow(id);
+        var payment = findPaymentForUpdateOrThrow(id);
 
         if (!payment.allowsModification()) {
             throw new BadRequestException(
                     "Pagamento não pode ser cancelado no status atual: " + payment.getStatus());
         }
 
+        PaymentStatus previousStatus = payment.getStatus();
         payment.cancel();
         Payment updatedPayment = paymentRepository.save(payment);
+        recordTransition(updatedPayment, previousStatus);
 
         log.info("Pagamento {} cancelado", id);
         return mapToResponse(updatedPayment);
@@ -122,34 +169,38 @@ public class PaymentService {
     @Transactional
     public void deletePayment(UUID id) {
         log.info("Deletando pagamento ID: {}", id);
-        var payment = findPaymentOrThrow(id);
+        var payment = findPaymentForUpdateOrThrow(id);
         paymentRepository.delete(payment);
+        paymentSummaryService.recordDeleted(payment.getStudent().getId(), payment.getStatus(), payment.getAmount());
+        deadlineScheduler.cancelPayment(id);
         log.info("Pagamento deletado: {}", id);
     }
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
-    public void updateOverduePayments() {
-        log.info("Executando atualização de pagamentos atrasados");
-
-        int updatedCount = paymentRepository.updateOverduePayments(
-                LocalDate.now(),
-                PaymentStatus.PENDENTE,
-                PaymentStatus.ATRASADO
-        );
-
-        log.info("Atualização concluída. {} pagamentos marcados como ATRASADO", updatedCount);
+    @Transactional(readOnly = true)
+    public boolean hasStudentPendingPayments(UUID studentId) {
+        return paymentSummaryService.hasPendingPayments(studentId);
     }
 
     @Transactional(readOnly = true)
-    public boolean hasStudentPendingPayments(UUID studentId) {
-        return paymentRepository.existsByStudentIdAndStatus(studentId, PaymentStatus.PENDENTE) ||
-                paymentRepository.existsByStudentIdAndStatus(studentId, PaymentStatus.ATRASADO);
+    public StudentPaymentSummaryResponse getStudentSummary(UUID studentId) {
+        validateStudentExists(studentId);
+        return paymentSummaryService.getSummary(studentId);
     }
 
 
-    private Payment findPaymentOrThrow(UUID id) {
-        return paymentRepository.findById(id)
+    private void recordTransition(Payment payment, PaymentStatus previousStatus) {
+        paymentSummaryService.recordTransition(
+                payment.getStudent().getId(), previousStatus, payment.getStatus(), payment.getAmount());
+        deadlineScheduler.cancelPayment(payment.getId());
+    }
+
+    /**
+     * Carrega o pagamento com lock de linha. O status lido é o que será
+     * alterado, então o delta do resumo não diverge de uma transição
+     * concorrente (varredura ou agendador de prazos).
+     */
+    private Payment findPaymentForUpdateOrThrow(UUID id) {
+        return paymentRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ObjectNotFoundException(
                         "Pagamento não encontrado com ID: " + id));
     }
@@ -161,6 +212,10 @@ public class PaymentService {
         }
     }
 
+    private Cursor cursorOf(PaymentView payment) {
+        return new Cursor(payment.createdAt(), payment.id());
+    }
+
     //TODO:MOVER ISSO PARA UM MAPPER
     private PaymentResponse mapToResponse(Payment payment) {
         return PaymentResponse.builder()
@@ -173,8 +228,26 @@ public class PaymentService {
                 .status(payment.getStatus())
                 .statusDisplayName(payment.getStatus().getDisplayName())
                 .paymentMethod(payment.getPaymentMethod())
+                .transactionId(payment.getTransactionId())
                 .overdue(payment.isOverdue())
                 .createdAt(payment.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    private PaymentResponse viewToResponse(PaymentView payment) {
+        return PaymentResponse.builder()
+                .id(payment.id())
+                .studentId(payment.studentId())
+                .studentName(payment.studentName())
+                .amount(payment.amount())
+                .paymentDate(payment.paymentDate())
+                .dueDate(payment.dueDate())
+                .status(payment.status())
+                .statusDisplayName(payment.status().getDisplayName())
+                .paymentMethod(payment.paymentMethod())
+                .transactionId(payment.transactionId())
+                .overdue(payment.isOverdue())
+                .createdAt(payment.createdAt())
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.config.database.DatabasePlatform;
+import br.com.student.portal.dto.response.StudentPaymentSummaryResponse;
+import br.com.student.portal.entity.StudentPaymentSummary;
+import br.com.student.portal.entity.enums.PaymentStatus;
+import br.com.student.portal.repository.StudentPaymentSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém o resumo de pagamentos por estudante aplicando deltas de
+ * contagem e valor por status. Cada delta é um upsert atômico na linha
+ * do estudante, executado na transação de quem alterou o pagamento:
+ * INSERT ... ON CONFLICT no PostgreSQL e MERGE padrão nos demais bancos.
+ */
+@Slf4j
+@Service
+public class PaymentSummaryService {
+
+    private static final Map<PaymentStatus, String> COLUMNS = new EnumMap<>(Map.of(
+            PaymentStatus.PENDENTE, "pending",
+            PaymentStatus.PAGO, "paid",
+            PaymentStatus.ATRASADO, "overdue",
+            PaymentStatus.CANCELADO, "cancelled",
+            PaymentStatus.REEMBOLSADO, "refunded"
+    ));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StudentPaymentSummaryRepository summaryRepository;
+    private final String upsertSummary;
+
+    public PaymentSummaryService(
+            DataSource dataSource,
+            DatabasePlatform databasePlatform,
+            StudentPaymentSummaryRepository summaryRepository
+    ) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.summaryRepository = summaryRepository;
+        this.upsertSummary = databasePlatform.isPostgres() ? buildUpsert() : buildMerge();
+    }
+
+    @Transactional(readOnly = true)
+    public StudentPaymentSummaryResponse getSummary(UUID studentId) {
+        return summaryRepository.findById(studentId)
+                .map(this::mapToResponse)
+                .orElseGet(() -> emptySummary(studentId));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasPendingPayments(UUID studentId) {
+        return summaryRepository.findById(studentId)
+                .map(summary -> summary.getPendingCount() + summary.getOverdueCount() > 0)
+                .orElse(false);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(UUID studentId, PaymentStatus status, BigDecimal amount) {
+        apply(studentId, new Delta().add(status, 1, amount));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(UUID studentId, PaymentStatus from, PaymentStatus to, BigDecimal amount) {
+        if (from == to) {
+            return;
+        }
+        apply(studentId, new Delta().add(from, -1, amount).add(to, 1, amount));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(UUID studentId, PaymentStatus status, BigDecimal amount) {
+        apply(studentId, new Delta().add(status, -1, amount));
+    }
+
+    /**
+     * Aplica deltas agrupados por estudante em um único lote JDBC
+     * (importações e varreduras em massa).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Map<UUID, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = deltas.entrySet().stream()
+                .map(entry -> parameters(entry.getKey(), entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(upsertSummary, batch);
+        log.debug("Resumo de pagamentos atualizado para {} estudantes", deltas.size());
+    }
+
+    private void apply(UUID studentId, Delta delta) {
+        jdbcTemplate.update(upsertSummary, parameters(studentId, delta));
+    }
+
+    private static SqlParameterSource parameters(UUID studentId, Delta delta) {
+        var params = new MapSqlParameterSource("studentId", studentId);
+        COLUMNS.forEach((status, column) -> {
+            params.addValue(column + "Count", delta.counts.get(status));
+            params.addValue(column + "Amount", delta.amounts.get(status));
+        });
+        return params;
+    }
+
+    private static String buildUpsert() {
+        String columns = COLUMNS.values().stream()
+                .map(column -> column + "_count, " + column + "_amount")
+                .collect(Collectors.joining(", "));
+        String values = COLUMNS.values().stream()
+                .map(column -> ":" + column + "Count, :" + column + "Amount")
+                .collect(Collectors.joining(", "));
+        String updates = COLUMNS.values().stream()
+                .map(column -> column + "_count = s." + column + "_count + EXCLUDED." + column + "_count, " +
+                        column + "_amount = s." + column + "_amount + EXCLUDED." + column + "_amount")
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO student_payment_summary AS s (student_id, " + columns + ", updated_at) " +
+                "VALUES (:studentId, " + values + ", CURRENT_TIMESTAMP) " +
+                "ON CONFLICT (student_id) DO UPDATE SET " + updates + ", updated_at = CURRENT_TIMESTAMP";
+    }
+
+    // Fallback portável (SQL padrão); os CASTs tipam os parâmetros da linha de origem
+    private static String buildMerge() {
+        String source = COLUMNS.values().stream()
+                .map(column -> "CAST(:" + column + "Count AS INTEGER) AS " + column + "_count, " +
+                        "CAST(:" + column + "Amount AS NUMERIC(14,2)) AS " + column + "_amount")
+                .collect(Collectors.joining(", "));
+        String columns = COLUMNS.values().stream()
+                .map(column -> column + "_count, " + column + "_amount")
+                .collect(Collectors.joining(", "));
+        String values = COLUMNS.values().stream()
+                .map(column -> "d." + column + "_count, d." + column + "_amount")
+                .collect(Collectors.joining(", "));
+        String updates = COLUMNS.values().stream()
+                .map(column -> column + "_count = s." + column + "_count + d." + column + "_count, " +
+                        column + "_amount = s." + column + "_amount + d." + column + "_amount")
+                .collect(Collectors.joining(", "));
+
+        return "MERGE INTO student_payment_summary s " +
+                "USING (SELECT CAST(:studentId AS UUID) AS student_id, " + source + ") d " +
+                "ON s.student_id = d.student_id " +
+                "WHEN MATCHED THEN UPDATE SET " + updates + ", updated_at = CURRENT_TIMESTAMP " +
+                "WHEN NOT MATCHED THEN INSERT (student_id, " + columns + ", updated_at) " +
+                "VALUES (d.student_id, " + values + ", CURRENT_TIMESTAMP)";
+    }
+
+    private StudentPaymentSummaryResponse mapToResponse(StudentPaymentSummary summary) {
+        return StudentPaymentSummaryResponse.builder()
+                .studentId(summary.getStudentId())
+                .pendingCount(summary.getPendingCount())
+                .pendingAmount(summary.getPendingAmount())
+                .paidCount(summary.getPaidCount())
+                .paidAmount(summary.getPaidAmount())
+                .overdueCount(summary.getOverdueCount())
+                .overdueAmount(summary.getOverdueAmount())
+                .cancelledCount(summary.getCancelledCount())
+                .cancelledAmount(summary.getCancelledAmount())
+                .refundedCount(summary.getRefundedCount())
+                .refundedAmount(summary.getRefundedAmount())
+                .hasPendingPayments(summary.getPendingCount() + summary.getOverdueCount() > 0)
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private static StudentPaymentSummaryResponse emptySummary(UUID studentId) {
+        return StudentPaymentSummaryResponse.builder()
+                .studentId(studentId)
+                .pendingAmount(BigDecimal.ZERO)
+                .paidAmount(BigDecimal.ZERO)
+                .overdueAmount(BigDecimal.ZERO)
+                .cancelledAmount(BigDecimal.ZERO)
+                .refundedAmount(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Variação acumulada de contagem e valor por status para um estudante.
+     */
+    public static final class Delta {
+
+        private final Map<PaymentStatus, Long> counts = new EnumMap<>(PaymentStatus.class);
+        private final Map<PaymentStatus, BigDecimal> amounts = new EnumMap<>(PaymentStatus.class);
+
+        public Delta() {
+            for (PaymentStatus status : PaymentStatus.values()) {
+                counts.put(status, 0L);
+                amounts.put(status, BigDecimal.ZERO);
+            }
+        }
+
+        public Delta add(PaymentStatus status, long count, BigDecimal amount) {
+            BigDecimal signedAmount = count < 0 ? amount.negate() : amount;
+            counts.merge(status, count, Long::sum);
+            amounts.merge(status, signedAmount, BigDecimal::add);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.entity.RefreshToken;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.exception.BadRequestException;
+import br.com.student.portal.repository.RefreshTokenRepository;
+import br.com.student.portal.service.job.JobCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Emite e rotaciona refresh tokens opacos. Apenas o hash SHA-256 é persistido,
+ * então a validação é uma única busca indexada, sem custo de BCrypt.
+ * A reapresentação de um token já rotacionado revoga toda a família.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN_MESSAGE = "Refresh token inválido ou expirado.";
+    private static final String PURGE_JOB_NAME = "refresh-token-purge";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JobCoordinator jobCoordinator;
+
+    @Value("${api.security.refresh-token.expiration-days:14}")
+    private int expirationDays;
+
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Troca um refresh token válido por um novo da mesma família.
+     */
+    @Transactional(noRollbackFor = BadRequestException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadRequestException(INVALID_TOKEN_MESSAGE));
+
+        if (current.isRevoked()) {
+            revokeReusedFamily(current);
+        }
+
+        User user = current.getUser();
+        if (current.isExpired() || !user.isEnabled()) {
+            throw new BadRequestException(INVALID_TOKEN_MESSAGE);
+        }
+
+        // Check-and-set no banco: de duas rotações simultâneas do mesmo token, só uma revoga
+        if (refreshTokenRepository.revokeIfActive(current.getId(), LocalDateTime.now()) == 0) {
+            revokeReusedFamily(current);
+        }
+
+        String next = issue(user, current.getFamilyId());
+
+        log.debug("Refresh token rotacionado para usuário: {}", user.getId());
+        return new Rotation(user, next);
+    }
+
+    /**
+     * Revoga todos os refresh tokens do usuário. Chamado na troca de senha,
+     * na desativação e na exclusão da conta.
+     */
+    @Transactional
+    public void revokeAll(UUID userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        log.debug("{} refresh tokens revogados para usuário: {}", revoked, userId);
+    }
+
+    public long getExpirationSeconds() {
+        return expirationDays * 24L * 60 * 60;
+    }
+
+    // Uma única instância do cluster executa a limpeza
+    @Scheduled(cron = "${api.security.refresh-token.purge-cron:0 30 3 * * ?}")
+    public void purgeExpiredTokens() {
+        jobCoordinator.runExclusive(PURGE_JOB_NAME, () -> {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            log.info("Limpeza de refresh tokens concluída. {} tokens expirados removidos", deleted);
+            return deleted;
+        });
+    }
+
+    private void revokeReusedFamily(RefreshToken reused) {
+        int revoked = refreshTokenRepository.revokeFamily(reused.getFamilyId(), LocalDateTime.now());
+        log.warn("Reuso de refresh token detectado para usuário {} - {} tokens da família revogados",
+                reused.getUser().getId(), revoked);
+        throw new BadRequestException(INVALID_TOKEN_MESSAGE);
+    }
+
+    private String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        var refreshToken = RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusDays(expirationDays))
+                .build();
+
+        refreshTokenRepository.save(refreshToken);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
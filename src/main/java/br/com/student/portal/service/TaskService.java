@@ -1,6 +1,11 @@
 package br.com.student.portal.service;
 
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.dto.projection.VersionStamp;
+import br.com.student.portal.dto.request.Cursor;
 import br.com.student.portal.dto.request.TaskRequest;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.TaskResponse;
 import br.com.student.portal.entity.Course;
 import br.com.student.portal.entity.Task;
@@ -9,12 +14,13 @@ import br.com.student.portal.entity.enums.TaskStatus;
 import br.com.student.portal.exception.ObjectNotFoundException;
 import br.com.student.portal.repository.CourseRepository;
 import br.com.student.portal.repository.TaskRepository;
+import br.com.student.portal.service.deadline.DeadlineScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,41 +28,101 @@ import static br.com.student.portal.validation.TaskValidator.validateTaskFields;
 
 @Slf4j
 @Service
+@Workload(WorkloadClass.INTERACTIVE)
 @RequiredArgsConstructor
 public class TaskService {
 
     private final TaskRepository taskRepository;
     private final CourseRepository courseRepository;
+    private final DeadlineScheduler deadlineScheduler;
 
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID id) {
         log.debug("Buscando tarefa por ID: {}", id);
-        Task task = findTaskOrThrow(id);
+        Task task = taskRepository.findWithRelationsById(id)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        "Tarefa não encontrada com ID: " + id));
         return mapToResponse(task);
     }
 
+    /**
+     * ETags calculadas só com contagem e updated_at da tarefa, do curso e do autor.
+     */
+    @Transactional(readOnly = true)
+    public String getTaskETag(UUID id) {
+        VersionStamp version = taskRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new ObjectNotFoundException("Tarefa não encontrada com ID: " + id);
+        }
+        return version.toETag("task:" + id);
+    }
+
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks() {
-        log.debug("Buscando todas as tarefas");
-        return taskRepository.findAllByOrderByDeadlineAsc().stream()
-                .map(this::mapToResponse)
-                .toList();
+    public String getTasksETag(String cursor, Integer size) {
+        return taskRepository.findVersion().toETag("tasks:" + cursor + ":" + Cursor.pageSize(size));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByCourse(UUID courseId) {
-        log.debug("Buscando tarefas do curso: {}", courseId);
-        return taskRepository.findByCourseId(courseId).stream()
-                .map(this::mapToResponse)
-                .toList();
+    public String getTasksByCourseETag(UUID courseId, String cursor, Integer size) {
+        return taskRepository.findVersionByCourseId(courseId)
+                .toETag("tasks:course:" + courseId + ":" + cursor + ":" + Cursor.pageSize(size));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getOverdueTasks() {
-        log.debug("Buscando tarefas atrasadas");
-        return taskRepository.findOverdueTasks(LocalDateTime.now()).stream()
-                .map(this::mapToResponse)
-                .toList();
+    public String getOverdueTasksETag(String cursor, Integer size) {
+        return taskRepository.findOverdueVersion()
+                .toETag("tasks:overdue:" + cursor + ":" + Cursor.pageSize(size));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getAllTasks(String cursor, Integer size) {
+        log.debug("Buscando página de tarefas");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<Task> rows;
+        if (cursor == null) {
+            rows = taskRepository.findPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = taskRepository.findPageAfter(after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::mapToResponse, this::cursorOf);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksByCourse(UUID courseId, String cursor, Integer size) {
+        log.debug("Buscando página de tarefas do curso: {}", courseId);
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<Task> rows;
+        if (cursor == null) {
+            rows = taskRepository.findPageByCourseId(courseId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = taskRepository.findPageByCourseIdAfter(courseId, after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::mapToResponse, this::cursorOf);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getOverdueTasks(String cursor, Integer size) {
+        log.debug("Buscando página de tarefas atrasadas");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<Task> rows;
+        if (cursor == null) {
+            rows = taskRepository.findOverduePage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = taskRepository.findOverduePageAfter(after.position(), after.id(), limit);
+        }
+
+        return CursorPageResponse.from(rows, pageSize, this::mapToResponse, this::cursorOf);
     }
 
     @Transactional
@@ -81,6 +147,7 @@ public class TaskService {
         validateTaskFields(task);
 
         var savedTask = taskRepository.save(task);
+        deadlineScheduler.scheduleTask(savedTask.getId(), savedTask.getDeadline());
         log.info("Tarefa criada com ID: {}", savedTask.getId());
 
         return mapToResponse(savedTask);
@@ -106,8 +173,14 @@ public class TaskService {
         }
 
         validateTaskFields(task);
+        task.reopenIfDeadlineAhead();
 
         var updatedTask = taskRepository.save(task);
+        if (updatedTask.getStatus() == TaskStatus.PENDING) {
+            deadlineScheduler.scheduleTask(updatedTask.getId(), updatedTask.getDeadline());
+        } else {
+            deadlineScheduler.cancelTask(updatedTask.getId());
+        }
         log.info("Tarefa atualizada: {}", updatedTask.getId());
 
         return mapToResponse(updatedTask);
@@ -118,6 +191,7 @@ public class TaskService {
         log.info("Deletando tarefa ID: {}", id);
         Task task = findTaskOrThrow(id);
         taskRepository.delete(task);
+        deadlineScheduler.cancelTask(id);
         log.info("Tarefa deletada: {}", id);
     }
 
@@ -127,6 +201,10 @@ public class TaskService {
                         "Tarefa não encontrada com ID: " + id));
     }
 
+    private Cursor cursorOf(Task task) {
+        return new Cursor(task.getDeadline(), task.getId());
+    }
+
     //TODO:MOVER ESSA FUNÇÃO PARA UM MAPPER
     private TaskResponse mapToResponse(Task task) {
         return TaskResponse.builder()
@@ -6,6 +6,8 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,11 +17,18 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class TokenService {
 
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     private static final String ISSUER = "student-portal-api";
     private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
 
@@ -29,8 +38,16 @@ public class TokenService {
     @Value("${api.security.token.expiration-hours:2}")
     private int expirationHours;
 
+    private final MeterRegistry meterRegistry;
+    private final Timer invalidTokenTimer;
+
     private Algorithm algorithm;
 
+    public TokenService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.invalidTokenTimer = verifyTimer("invalid", "none");
+    }
+
     @PostConstruct
     private void init() {
         this.algorithm = Algorithm.HMAC256(secret);
@@ -47,9 +64,10 @@ public class TokenService {
             String token = JWT.create()
                     .withIssuer(ISSUER)
                     .withSubject(user.getEmail())
-                    .withClaim("userId", user.getId().toString())
-                    .withClaim("role", user.getRole().name())
-                    .withClaim("name", user.getName())
+                    .withClaim(CLAIM_USER_ID, user.getId().toString())
+                    .withClaim(CLAIM_ROLE, user.getRole().name())
+                    .withClaim(CLAIM_NAME, user.getName())
+                    .withClaim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                     .withIssuedAt(Instant.now())
                     .withExpiresAt(expiresAt)
                     .sign(algorithm);
@@ -64,19 +82,52 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
+        DecodedJWT decodedJWT = verifyToken(token);
+        return decodedJWT != null ? decodedJWT.getSubject() : null;
+    }
+
+    /**
+     * Versão de revogação com que o token foi emitido; tokens anteriores ao claim valem como versão 0.
+     */
+    public static long tokenVersion(DecodedJWT decodedJWT) {
+        Long version = decodedJWT.getClaim(CLAIM_TOKEN_VERSION).asLong();
+        return version != null ? version : 0L;
+    }
+
+    public long getExpirationSeconds() {
+        return expirationHours * 60L * 60;
+    }
+
+    /**
+     * Verifica assinatura, emissor e expiração do token.
+     * Retorna null quando o token é inválido ou está expirado.
+     */
+    public DecodedJWT verifyToken(String token) {
+        long start = System.nanoTime();
         try {
             DecodedJWT decodedJWT = JWT.require(algorithm)
                     .withIssuer(ISSUER)
                     .build()
                     .verify(token);
 
-            String email = decodedJWT.getSubject();
-            log.debug("Token válido para usuário: {}", email);
-            return email;
+            String role = decodedJWT.getClaim(CLAIM_ROLE).asString();
+            verifyTimer("valid", role != null ? role.toLowerCase(Locale.ROOT) : "none")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("Token válido para usuário: {}", decodedJWT.getSubject());
+            return decodedJWT;
 
         } catch (JWTVerificationException ex) {
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.debug("Token inválido ou expirado: {}", ex.getMessage());
             return null;
         }
     }
+
+    private Timer verifyTimer(String outcome, String role) {
+        return Timer.builder("auth.token.verify")
+                .tag("outcome", outcome)
+                .tag("role", role)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,14 @@
 package br.com.student.portal.service;
 
+import br.com.student.portal.config.workload.Workload;
+import br.com.student.portal.config.workload.WorkloadClass;
+import br.com.student.portal.config.workload.WorkloadLimiters;
+import br.com.student.portal.config.security.PrincipalCache;
+import br.com.student.portal.config.security.TokenRevocationRegistry;
+import br.com.student.portal.dto.projection.VersionStamp;
+import br.com.student.portal.dto.request.Cursor;
 import br.com.student.portal.dto.request.UserRequest;
+import br.com.student.portal.dto.response.CursorPageResponse;
 import br.com.student.portal.dto.response.UserResponse;
 import br.com.student.portal.entity.User;
 import br.com.student.portal.exception.BadRequestException;
@@ -9,12 +17,11 @@ import br.com.student.portal.mapper.UserMapper;
 import br.com.student.portal.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static br.com.student.portal.validation.UserValidator.validateFieldsUserRequest;
 
@@ -25,85 +32,134 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final WorkloadLimiters workloadLimiters;
 
     public UserResponse createUser(UserRequest userRequest) {
         log.info("Criando novo usuário: {}", userRequest.getEmail());
 
         validateFieldsUserRequest(userRequest);
 
-        if (userRepository.findByEmail(userRequest.getEmail()).isPresent()) {
-            throw new BadRequestException(
-                    "O email " + userRequest.getEmail() + " já está cadastrado.");
-        }
+        // A permissão de banco cobre só as consultas; o BCrypt roda fora dela
+        workloadLimiters.run(WorkloadClass.INTERACTIVE, () -> {
+            if (userRepository.findByEmail(userRequest.getEmail()).isPresent()) {
+                throw new BadRequestException(
+                        "O email " + userRequest.getEmail() + " já está cadastrado.");
+            }
 
-        if (userRequest.getRegistration() != null &&
-                userRepository.findByRegistration(userRequest.getRegistration()).isPresent()) {
-            throw new BadRequestException(
-                    "A matrícula " + userRequest.getRegistration() + " já está cadastrada.");
-        }
+            if (userRequest.getRegistration() != null &&
+                    userRepository.findByRegistration(userRequest.getRegistration()).isPresent()) {
+                throw new BadRequestException(
+                        "A matrícula " + userRequest.getRegistration() + " já está cadastrada.");
+            }
+        });
 
         User user = userMapper.userRequestIntoUser(userRequest);
-        user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
+        user.setPassword(passwordHashingService.encode(userRequest.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        User savedUser = workloadLimiters.call(WorkloadClass.INTERACTIVE, () -> userRepository.save(user));
         log.info("Usuário criado com ID: {}", savedUser.getId());
 
         return userMapper.userIntoUserResponse(savedUser);
     }
 
+    @Workload(WorkloadClass.INTERACTIVE)
     public UserResponse getUserById(UUID id) {
         log.debug("Buscando usuário por ID: {}", id);
         User user = findUserById(id);
         return userMapper.toResponse(user);
     }
 
-    public List<UserResponse> getAllUsers() {
-        log.debug("Buscando todos os usuários");
-        var users = userRepository.findAll();
+    /**
+     * ETags calculadas só com contagem e updated_at, sem carregar usuários.
+     */
+    @Workload(WorkloadClass.INTERACTIVE)
+    public String getUserETag(UUID id) {
+        VersionStamp version = userRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            throw new ObjectNotFoundException("Usuário não encontrado com ID: " + id);
+        }
+        return version.toETag("user:" + id);
+    }
 
-        if (users.isEmpty()) {
-            throw new ObjectNotFoundException("Nenhum usuário encontrado.");
+    @Workload(WorkloadClass.INTERACTIVE)
+    public String getUsersETag(String cursor, Integer size) {
+        return userRepository.findVersion().toETag("users:" + cursor + ":" + Cursor.pageSize(size));
+    }
+
+    @Workload(WorkloadClass.REPORTING)
+    public CursorPageResponse<UserResponse> getAllUsers(String cursor, Integer size) {
+        log.debug("Buscando página de usuários");
+        int pageSize = Cursor.pageSize(size);
+        Pageable limit = Cursor.limit(pageSize);
+
+        List<User> users;
+        if (cursor == null) {
+            users = userRepository.findPage(limit);
+
+            if (users.isEmpty()) {
+                throw new ObjectNotFoundException("Nenhum usuário encontrado.");
+            }
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            users = userRepository.findPageAfter(after.position(), after.id(), limit);
         }
 
-        return users.stream()
-                .map(userMapper::userIntoUserResponse)
-                .collect(Collectors.toList());
+        return CursorPageResponse.from(users, pageSize, userMapper::userIntoUserResponse,
+                user -> new Cursor(user.getCreatedAt(), user.getId()));
     }
 
     public UserResponse updateUser(UUID id, UserRequest userRequest) {
         log.info("Atualizando usuário ID: {}", id);
 
-        var user = findUserById(id);
         validateFieldsUserRequest(userRequest);
 
-        userRepository.findByEmail(userRequest.getEmail())
-                .filter(existingUser -> !existingUser.getId().equals(id))
-                .ifPresent(existingUser -> {
-                    throw new BadRequestException(
-                            "O email " + userRequest.getEmail() + " já está em uso.");
-                });
+        var user = workloadLimiters.call(WorkloadClass.INTERACTIVE, () -> {
+            var existing = findUserById(id);
+            userRepository.findByEmail(userRequest.getEmail())
+                    .filter(existingUser -> !existingUser.getId().equals(id))
+                    .ifPresent(existingUser -> {
+                        throw new BadRequestException(
+                                "O email " + userRequest.getEmail() + " já está em uso.");
+                    });
+            return existing;
+        });
 
         user.setName(userRequest.getName());
         user.setEmail(userRequest.getEmail());
 
-        if (userRequest.getPassword() != null && !userRequest.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
+        boolean passwordChanged = userRequest.getPassword() != null && !userRequest.getPassword().isEmpty();
+        if (passwordChanged) {
+            user.setPassword(passwordHashingService.encode(userRequest.getPassword()));
         }
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser = workloadLimiters.call(WorkloadClass.INTERACTIVE, () -> {
+            User saved = userRepository.save(user);
+            if (passwordChanged || !saved.isEnabled()) {
+                refreshTokenService.revokeAll(id);
+            }
+            return saved;
+        });
+        evictPrincipal(id);
         log.info("Usuário atualizado: {}", updatedUser.getId());
 
         return userMapper.userIntoUserResponse(updatedUser);
     }
 
+    @Workload(WorkloadClass.INTERACTIVE)
     public void deleteUser(UUID id) {
         log.info("Deletando usuário ID: {}", id);
         var user = findUserById(id);
+        refreshTokenService.revokeAll(id);
         userRepository.delete(user);
+        evictPrincipal(id);
         log.info("Usuário deletado: {}", id);
     }
 
+    @Workload(WorkloadClass.INTERACTIVE)
     public UserResponse getUserByRegistration(String registration) {
         log.debug("Buscando usuário por matrícula: {}", registration);
         User user = userRepository.findByRegistration(registration)
@@ -112,6 +168,15 @@ public class UserService {
         return userMapper.userIntoUserResponse(user);
     }
 
+    /**
+     * Descarta o principal em cache e revoga os tokens emitidos em todos os nós,
+     * pois os claims do token (nome, email, role) deixam de refletir a conta.
+     */
+    private void evictPrincipal(UUID id) {
+        principalCache.invalidateUser(id);
+        revocationRegistry.revoke(id);
+    }
+
     private User findUserById(UUID id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException(
@@ -0,0 +1,304 @@
+package br.com.student.portal.service.deadline;
+
+import br.com.student.portal.dto.projection.PaymentDueRow;
+import br.com.student.portal.dto.projection.PaymentTransition;
+import br.com.student.portal.dto.projection.TaskDeadlineRow;
+import br.com.student.portal.entity.enums.PaymentStatus;
+import br.com.student.portal.repository.PaymentRepository;
+import br.com.student.portal.repository.TaskRepository;
+import br.com.student.portal.service.PaymentSummaryService;
+import br.com.student.portal.service.PaymentSummaryService.Delta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispara as transições de prazo (tarefa PENDING → OVERDUE, pagamento
+ * PENDENTE → ATRASADO) no instante do vencimento, a partir de um timing
+ * wheel em memória. Só os prazos dentro da janela {@code horizon} ficam
+ * carregados; a janela é recarregada periodicamente e as escritas de
+ * tarefas e pagamentos atualizam o agendamento após o commit.
+ * As transições guardam o status esperado no WHERE, então entradas
+ * obsoletas ou disparos repetidos não têm efeito.
+ */
+@Slf4j
+@Service
+public class DeadlineScheduler {
+
+    private final TaskRepository taskRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentSummaryService paymentSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final Duration horizon;
+    private final int batchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final HierarchicalTimingWheel<Entry> wheel;
+    private final Map<Key, Long> deadlines = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> ready = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService ticker;
+
+    private final Counter tasksFired;
+    private final Counter paymentsFired;
+
+    public DeadlineScheduler(
+            TaskRepository taskRepository,
+            PaymentRepository paymentRepository,
+            PaymentSummaryService paymentSummaryService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.deadlines.enabled:true}") boolean enabled,
+            @Value("${app.deadlines.tick-ms:1000}") long tickMillis,
+            @Value("${app.deadlines.wheel-size:64}") int wheelSize,
+            @Value("${app.deadlines.levels:4}") int levels,
+            @Value("${app.deadlines.horizon-hours:24}") long horizonHours,
+            @Value("${app.deadlines.batch-size:200}") int batchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentSummaryService = paymentSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.horizon = Duration.ofHours(horizonHours);
+        this.batchSize = batchSize;
+
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, levels, System.currentTimeMillis());
+        if (horizon.toMillis() >= wheel.horizonMillis()) {
+            throw new IllegalStateException("app.deadlines.horizon-hours excede a capacidade do timing wheel");
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("deadline-wheel-"));
+
+        this.tasksFired = firedCounter(meterRegistry, Kind.TASK);
+        this.paymentsFired = firedCounter(meterRegistry, Kind.PAYMENT);
+        Gauge.builder("deadlines.scheduled", deadlines, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Agendador de prazos desativado (app.deadlines.enabled=false)");
+            return;
+        }
+
+        reload();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Agendador de prazos iniciado (tick: {} ms, janela: {})", tickMillis, horizon);
+    }
+
+    /**
+     * Recarrega os prazos pendentes que entraram na janela, incluindo os
+     * gravados por caminhos em massa (importações) que não passam pelos hooks.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.deadlines.refresh-ms:900000}",
+            initialDelayString = "${app.deadlines.refresh-ms:900000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        List<TaskDeadlineRow> tasks = taskRepository.findPendingDeadlinesBefore(until);
+        List<PaymentDueRow> payments = paymentRepository.findPendingDueBefore(until.toLocalDate());
+
+        tasks.forEach(row -> schedule(new Key(Kind.TASK, row.id()), toMillis(row.deadline())));
+        payments.forEach(row -> schedule(new Key(Kind.PAYMENT, row.id()), toMillis(overdueAt(row.dueDate()))));
+
+        log.debug("Prazos recarregados: {} tarefas, {} pagamentos (até {})", tasks.size(), payments.size(), until);
+    }
+
+    public void scheduleTask(UUID taskId, LocalDateTime deadline) {
+        afterCommit(() -> scheduleIfWithinHorizon(new Key(Kind.TASK, taskId), deadline));
+    }
+
+    public void schedulePayment(UUID paymentId, LocalDate dueDate) {
+        afterCommit(() -> scheduleIfWithinHorizon(new Key(Kind.PAYMENT, paymentId), overdueAt(dueDate)));
+    }
+
+    public void cancelTask(UUID taskId) {
+        afterCommit(() -> deadlines.remove(new Key(Kind.TASK, taskId)));
+    }
+
+    public void cancelPayment(UUID paymentId) {
+        afterCommit(() -> deadlines.remove(new Key(Kind.PAYMENT, paymentId)));
+    }
+
+    private void scheduleIfWithinHorizon(Key key, LocalDateTime deadline) {
+        if (!enabled) {
+            return;
+        }
+        if (deadline.isBefore(LocalDateTime.now().plus(horizon))) {
+            schedule(key, toMillis(deadline));
+        } else {
+            // Fora da janela: entra em uma recarga futura
+            deadlines.remove(key);
+        }
+    }
+
+    private void schedule(Key key, long deadlineMillis) {
+        Long previous = deadlines.put(key, deadlineMillis);
+        if (previous != null && previous == deadlineMillis) {
+            return;
+        }
+
+        var entry = new Entry(key, deadlineMillis);
+        if (!wheel.schedule(entry, deadlineMillis)) {
+            ready.add(entry);
+        }
+    }
+
+    private void tick() {
+        try {
+            List<Entry> expired = wheel.advance(System.currentTimeMillis());
+            Entry immediate;
+            while ((immediate = ready.poll()) != null) {
+                expired.add(immediate);
+            }
+            if (expired.isEmpty()) {
+                return;
+            }
+
+            List<UUID> taskIds = new ArrayList<>();
+            List<UUID> paymentIds = new ArrayList<>();
+            for (Entry entry : expired) {
+                // Descarta entradas canceladas ou substituídas por outro prazo
+                if (deadlines.remove(entry.key(), entry.deadlineMillis())) {
+                    (entry.key().kind() == Kind.TASK ? taskIds : paymentIds).add(entry.key().id());
+                }
+            }
+
+            for (List<UUID> batch : partition(taskIds)) {
+                fireTasks(batch);
+            }
+            for (List<UUID> batch : partition(paymentIds)) {
+                firePayments(batch);
+            }
+        } catch (RuntimeException ex) {
+            // Itens não transicionados voltam na próxima recarga
+            log.error("Falha ao disparar prazos vencidos", ex);
+        }
+    }
+
+    private void fireTasks(List<UUID> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> moved = transactionTemplate.execute(status -> taskRepository.markOverdue(ids, now));
+        if (moved == null || moved.isEmpty()) {
+            return;
+        }
+
+        tasksFired.increment(moved.size());
+        moved.forEach(id -> eventPublisher.publishEvent(new TaskOverdueEvent(id, now)));
+        log.debug("{} tarefas marcadas como OVERDUE", moved.size());
+    }
+
+    private void firePayments(List<UUID> ids) {
+        LocalDate today = LocalDate.now();
+        List<PaymentTransition> moved = transactionTemplate.execute(status -> {
+            List<PaymentTransition> transitions = paymentRepository.markOverdue(ids, today);
+
+            Map<UUID, Delta> deltas = new HashMap<>();
+            for (PaymentTransition transition : transitions) {
+                deltas.computeIfAbsent(transition.getStudentId(), studentId -> new Delta())
+                        .add(PaymentStatus.PENDENTE, -1, transition.getAmount())
+                        .add(PaymentStatus.ATRASADO, 1, transition.getAmount());
+            }
+            paymentSummaryService.apply(deltas);
+            return transitions;
+        });
+        if (moved == null || moved.isEmpty()) {
+            return;
+        }
+
+        paymentsFired.increment(moved.size());
+        moved.forEach(transition -> eventPublisher.publishEvent(new PaymentOverdueEvent(
+                transition.getId(), transition.getStudentId(), transition.getAmount())));
+        log.debug("{} pagamentos marcados como ATRASADO", moved.size());
+    }
+
+    private List<List<UUID>> partition(List<UUID> ids) {
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    // Pagamento vence ao fim do dia de vencimento
+    private static LocalDateTime overdueAt(LocalDate dueDate) {
+        return dueDate.plusDays(1).atStartOfDay();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Counter firedCounter(MeterRegistry meterRegistry, Kind kind) {
+        return Counter.builder("deadlines.fired")
+                .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private enum Kind {
+        TASK, PAYMENT
+    }
+
+    private record Key(Kind kind, UUID id) {
+    }
+
+    private record Entry(Key key, long deadlineMillis) {
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.student.portal.service.deadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Timing wheel hierárquico: cada nível tem {@code wheelSize} slots e cada
+ * slot de um nível cobre uma volta inteira do nível abaixo. Agendar e
+ * expirar custam O(1) amortizado, independentemente da quantidade de prazos.
+ * Entradas de níveis superiores descem de nível (cascata) quando o cursor
+ * alcança o slot delas.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] ticksPerSlot;
+    private final List<List<Entry<T>>> slots;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Configuração inválida do timing wheel");
+        }
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.ticksPerSlot = new long[levels + 1];
+        this.ticksPerSlot[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.ticksPerSlot[level] = Math.multiplyExact(ticksPerSlot[level - 1], wheelSize);
+        }
+
+        this.slots = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Agenda o item para o instante informado.
+     *
+     * @return {@code false} se o prazo já passou; o chamador deve disparar o item imediatamente
+     */
+    public boolean schedule(T item, long deadlineMillis) {
+        long dueTick = -Math.floorDiv(-deadlineMillis, tickMillis);
+
+        lock.lock();
+        try {
+            if (dueTick <= currentTick) {
+                return false;
+            }
+            place(new Entry<>(item, deadlineMillis, dueTick));
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Avança o cursor até {@code nowMillis} e devolve os itens vencidos, em ordem de prazo por tick.
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+
+        lock.lock();
+        try {
+            while (currentTick < targetTick) {
+                currentTick++;
+
+                // Cascata do nível mais alto para o mais baixo
+                for (int level = levels - 1; level >= 1; level--) {
+                    if (currentTick % ticksPerSlot[level] == 0) {
+                        List<Entry<T>> bucket = slot(level, currentTick / ticksPerSlot[level]);
+                        if (!bucket.isEmpty()) {
+                            List<Entry<T>> cascading = new ArrayList<>(bucket);
+                            bucket.clear();
+                            for (Entry<T> entry : cascading) {
+                                if (entry.dueTick() <= currentTick) {
+                                    expired.add(entry.item());
+                                    size--;
+                                } else {
+                                    place(entry);
+                                }
+                            }
+                        }
+                    }
+                }
+
+                List<Entry<T>> due = slot(0, currentTick);
+                if (!due.isEmpty()) {
+                    for (Entry<T> entry : due) {
+                        expired.add(entry.item());
+                    }
+                    size -= due.size();
+                    due.clear();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return expired;
+    }
+
+    /**
+     * Maior prazo aceito a partir do instante atual do cursor.
+     */
+    public long horizonMillis() {
+        return ticksPerSlot[levels] * tickMillis;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Chamado com o lock adquirido; dueTick > currentTick
+    private void place(Entry<T> entry) {
+        for (int level = 0; level < levels; level++) {
+            long levelStart = currentTick - currentTick % ticksPerSlot[level];
+            if (entry.dueTick() < levelStart + ticksPerSlot[level + 1]) {
+                slot(level, entry.dueTick() / ticksPerSlot[level]).add(entry);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Prazo além do horizonte do timing wheel: " + entry.deadlineMillis());
+    }
+
+    private List<Entry<T>> slot(int level, long slotTick) {
+        return slots.get(level * wheelSize + (int) (slotTick % wheelSize));
+    }
+
+    private record Entry<T>(T item, long deadlineMillis, long dueTick) {
+    }
+}
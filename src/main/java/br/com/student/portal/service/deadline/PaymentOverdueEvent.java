@@ -0,0 +1,10 @@
+package br.com.student.portal.service.deadline;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Publicado quando um pagamento pendente passa a ATRASADO.
+ */
+public record PaymentOverdueEvent(UUID paymentId, UUID studentId, BigDecimal amount) {
+}
@@ -0,0 +1,10 @@
+package br.com.student.portal.service.deadline;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Publicado quando o prazo de uma tarefa pendente se encerra sem envio.
+ */
+public record TaskOverdueEvent(UUID taskId, LocalDateTime deadline) {
+}
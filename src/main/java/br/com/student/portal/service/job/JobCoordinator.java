@@ -0,0 +1,379 @@
+package br.com.student.portal.service.job;
+
+import br.com.student.portal.config.database.DatabasePlatform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Garante que cada job agendado (ou cada partição dele) rode em um único nó
+ * por vez. No PostgreSQL usa pg_try_advisory_lock numa conexão dedicada, que
+ * o banco libera sozinho se o nó cair; nos demais bancos, um lease na tabela
+ * job_locks renovado por heartbeat enquanto o job roda.
+ * Quem não obtém o lock simplesmente pula a execução.
+ */
+@Slf4j
+@Component
+public class JobCoordinator {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate lockTransaction;
+    private final MeterRegistry meterRegistry;
+    private final boolean advisoryLocks;
+    private final String nodeId;
+    private final Duration lease;
+    private final Duration historyRetention;
+    private final ScheduledExecutorService heartbeats;
+
+    // Evita que dois disparos no mesmo nó disputem o mesmo lock
+    private final Set<String> heldLocally = ConcurrentHashMap.newKeySet();
+
+    public JobCoordinator(
+            DataSource dataSource,
+            DatabasePlatform databasePlatform,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.node-id:}") String nodeId,
+            @Value("${app.jobs.lock-lease-seconds:120}") long leaseSeconds,
+            @Value("${app.jobs.history-retention-days:90}") long historyRetentionDays
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.meterRegistry = meterRegistry;
+        this.advisoryLocks = databasePlatform.isPostgres();
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.historyRetention = Duration.ofDays(historyRetentionDays);
+
+        // Operações de lock e histórico nunca entram na transação de quem chamou
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("job-heartbeat-"));
+
+        log.info("Coordenação de jobs: nó {} usando {}", this.nodeId,
+                advisoryLocks ? "advisory locks do PostgreSQL" : "lease na tabela job_locks");
+    }
+
+    /**
+     * Executa o job se nenhum outro nó estiver com ele. O corpo devolve a
+     * quantidade de linhas processadas.
+     */
+    public Optional<JobRun> runExclusive(String jobName, JobBody body) {
+        return runLocked(jobName, jobName, body);
+    }
+
+    /**
+     * Divide o espaço de UUIDs em partições e executa as que conseguir travar.
+     * Cada nó começa por uma partição diferente, então vários nós rodando ao
+     * mesmo tempo tendem a pegar faixas distintas em vez de esperar um pelo outro.
+     * A falha de uma partição não impede as demais.
+     */
+    public List<JobRun> runPartitioned(String jobName, int partitions, PartitionBody body) {
+        List<KeyRange> ranges = KeyRange.split(partitions);
+        int first = Math.floorMod(nodeId.hashCode(), partitions);
+
+        List<JobRun> runs = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            KeyRange range = ranges.get((first + i) % partitions);
+            String lockName = range.qualify(jobName);
+            try {
+                runLocked(jobName, lockName, () -> body.run(range)).ifPresent(runs::add);
+            } catch (RuntimeException ex) {
+                log.error("Partição {} falhou", lockName, ex);
+            }
+        }
+        return runs;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private Optional<JobRun> runLocked(String jobName, String lockName, JobBody body) {
+        if (!heldLocally.add(lockName)) {
+            log.debug("Job {} já em execução neste nó", lockName);
+            return Optional.empty();
+        }
+
+        try {
+            Lock lock = advisoryLocks ? tryAdvisoryLock(lockName) : tryLease(lockName);
+            if (lock == null) {
+                log.debug("Job {} em execução em outro nó; ignorando", lockName);
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(execute(jobName, lockName, body));
+            } finally {
+                lock.release();
+            }
+        } finally {
+            heldLocally.remove(lockName);
+        }
+    }
+
+    private JobRun execute(String jobName, String lockName, JobBody body) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        long rows;
+        try {
+            rows = body.run();
+        } catch (RuntimeException | Error ex) {
+            report(jobName, new JobRun(lockName, nodeId, false, 0, startedAt,
+                    Duration.ofNanos(System.nanoTime() - start)));
+            throw ex;
+        }
+
+        var run = new JobRun(lockName, nodeId, true, rows, startedAt, Duration.ofNanos(System.nanoTime() - start));
+        report(jobName, run);
+        return run;
+    }
+
+    private void report(String jobName, JobRun run) {
+        Timer.builder("jobs.run")
+                .tag("job", jobName)
+                .tag("outcome", run.succeeded() ? "success" : "failure")
+                .register(meterRegistry)
+                .record(run.duration());
+        Counter.builder("jobs.rows")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment(run.rowsProcessed());
+
+        log.info("Job {} {} no nó {} em {} ms ({} linhas)", run.jobName(),
+                run.succeeded() ? "concluído" : "falhou", run.ownerNode(),
+                run.duration().toMillis(), run.rowsProcessed());
+
+        try {
+            lockTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.update("INSERT INTO job_runs (id, job_name, owner_node, status, rows_processed, " +
+                                "started_at, finished_at, duration_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        UUID.randomUUID(), run.jobName(), run.ownerNode(),
+                        run.succeeded() ? "COMPLETED" : "FAILED", run.rowsProcessed(),
+                        run.startedAt(), run.startedAt().plus(run.duration()), run.duration().toMillis());
+                jdbcTemplate.update("DELETE FROM job_runs WHERE job_name = ? AND started_at < ?",
+                        run.jobName(), LocalDateTime.now().minus(historyRetention));
+            });
+        } catch (RuntimeException ex) {
+            // O histórico é informativo; não deve mascarar o resultado do job
+            log.warn("Não foi possível registrar execução do job {}: {}", run.jobName(), ex.getMessage());
+        }
+    }
+
+    // =====================================================
+    // PostgreSQL: advisory lock de sessão
+    // =====================================================
+
+    private Lock tryAdvisoryLock(String lockName) {
+        long key = lockKey(lockName);
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (!queryBoolean(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+                connection.close();
+                return null;
+            }
+
+            Connection held = connection;
+            return () -> releaseAdvisoryLock(held, lockName, key);
+        } catch (SQLException ex) {
+            // Não se sabe se o lock chegou a ser obtido: a conexão não volta ao pool
+            discard(connection);
+            throw new DataAccessResourceFailureException("Falha ao obter advisory lock do job " + lockName, ex);
+        }
+    }
+
+    private void releaseAdvisoryLock(Connection connection, String lockName, long key) {
+        try {
+            queryBoolean(connection, "SELECT pg_advisory_unlock(?)", key);
+        } catch (SQLException ex) {
+            // close() só devolveria a conexão ao pool com o lock de sessão ainda preso;
+            // descartá-la encerra a sessão no banco e libera o lock
+            log.warn("Falha ao liberar advisory lock do job {}, descartando a conexão: {}", lockName, ex.getMessage());
+            discard(connection);
+            return;
+        }
+        closeQuietly(connection);
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Aborta a sessão física antes de devolver a conexão: o Hikari vê a conexão
+     * morta no close() e a remove do pool em vez de reaproveitá-la.
+     */
+    private static void discard(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Falha ao abortar conexão do advisory lock: {}", ex.getMessage());
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Falha ao fechar conexão do advisory lock: {}", ex.getMessage());
+        }
+    }
+
+    // FNV-1a 64 bits: chave estável entre nós e versões, ao contrário de String.hashCode
+    static long lockKey(String lockName) {
+        long hash = FNV_OFFSET;
+        for (byte b : lockName.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // =====================================================
+    // Demais bancos: lease com heartbeat
+    // =====================================================
+
+    private Lock tryLease(String lockName) {
+        Boolean acquired = lockTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int taken = jdbcTemplate.update("UPDATE job_locks SET owner = ?, locked_until = ?, heartbeat_at = ? " +
+                            "WHERE job_name = ? AND (locked_until < ? OR owner = ?)",
+                    nodeId, now.plus(lease), now, lockName, now, nodeId);
+            return taken > 0;
+        });
+
+        if (!Boolean.TRUE.equals(acquired) && !insertLease(lockName)) {
+            return null;
+        }
+
+        long renewMillis = Math.max(1000, lease.toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+                () -> renewLease(lockName), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+
+        return () -> {
+            heartbeat.cancel(false);
+            releaseLease(lockName);
+        };
+    }
+
+    private boolean insertLease(String lockName) {
+        try {
+            lockTransaction.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.update("INSERT INTO job_locks (job_name, owner, locked_until, heartbeat_at) " +
+                        "VALUES (?, ?, ?, ?)", lockName, nodeId, now.plus(lease), now);
+            });
+            return true;
+        } catch (DuplicateKeyException ex) {
+            // Outro nó detém um lease ainda válido
+            return false;
+        }
+    }
+
+    private void renewLease(String lockName) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer renewed = lockTransaction.execute(status -> jdbcTemplate.update(
+                    "UPDATE job_locks SET locked_until = ?, heartbeat_at = ? WHERE job_name = ? AND owner = ?",
+                    now.plus(lease), now, lockName, nodeId));
+            if (renewed == null || renewed == 0) {
+                log.warn("Lease do job {} perdido pelo nó {}; outro nó pode assumir", lockName, nodeId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao renovar lease do job {}: {}", lockName, ex.getMessage());
+        }
+    }
+
+    private void releaseLease(String lockName) {
+        try {
+            lockTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE job_locks SET locked_until = ? WHERE job_name = ? AND owner = ?",
+                    LocalDateTime.now(), lockName, nodeId));
+        } catch (RuntimeException ex) {
+            // O lease expira sozinho ao fim do prazo
+            log.warn("Falha ao liberar lease do job {}: {}", lockName, ex.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface JobBody {
+        long run();
+    }
+
+    @FunctionalInterface
+    public interface PartitionBody {
+        long run(KeyRange range);
+    }
+
+    @FunctionalInterface
+    private interface Lock {
+        void release();
+    }
+}
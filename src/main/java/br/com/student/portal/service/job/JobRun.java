@@ -0,0 +1,17 @@
+package br.com.student.portal.service.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma execução de job que obteve o lock neste nó.
+ */
+public record JobRun(
+        String jobName,
+        String ownerNode,
+        boolean succeeded,
+        long rowsProcessed,
+        LocalDateTime startedAt,
+        Duration duration
+) {
+}
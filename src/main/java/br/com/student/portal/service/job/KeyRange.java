@@ -0,0 +1,42 @@
+package br.com.student.portal.service.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Faixa fechada de UUIDs [from, to] de uma partição de job. As faixas dividem
+ * os 32 bits mais altos do UUID, na mesma ordem (bytes sem sinal) usada pelo
+ * PostgreSQL para comparar colunas uuid.
+ */
+public record KeyRange(int index, int count, UUID from, UUID to) {
+
+    private static final long KEY_SPACE = 1L << 32;
+
+    public static List<KeyRange> split(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Quantidade de partições deve ser positiva: " + count);
+        }
+
+        List<KeyRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID from = new UUID(upperBits(i, count) << 32, 0L);
+            UUID to = i == count - 1
+                    ? new UUID(-1L, -1L)
+                    : new UUID((upperBits(i + 1, count) << 32) - 1, -1L);
+            ranges.add(new KeyRange(i, count, from, to));
+        }
+        return ranges;
+    }
+
+    /**
+     * Nome do lock/checkpoint da partição; sem sufixo quando há uma só.
+     */
+    public String qualify(String jobName) {
+        return count == 1 ? jobName : jobName + ":" + index + "/" + count;
+    }
+
+    private static long upperBits(int index, int count) {
+        return index * KEY_SPACE / count;
+    }
+}
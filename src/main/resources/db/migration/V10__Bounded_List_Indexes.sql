@@ -0,0 +1,13 @@
+-- =============================================
+-- V10__Bounded_List_Indexes.sql
+-- Índices para paginação por cursor das listas filtradas por status
+-- =============================================
+
+-- /api/tasks/overdue: (deadline, id) só entre as vencidas
+CREATE INDEX idx_tasks_overdue_deadline_id ON tasks(deadline, id) WHERE status = 'OVERDUE';
+
+-- /api/courses/active: (created_at, id) só entre os ativos
+CREATE INDEX idx_courses_active_created_at_id ON courses(created_at, id) WHERE status = 'ACTIVE';
+
+-- /api/payments/student/{id}/pending: (due_date, id) por estudante
+CREATE INDEX idx_payments_student_status_due_id ON payments(student_id, status, due_date, id);
@@ -0,0 +1,11 @@
+-- =============================================
+-- V3__Keyset_Pagination_Indexes.sql
+-- Índices compostos para paginação por cursor (chave de ordenação + id)
+-- =============================================
+
+CREATE INDEX idx_tasks_deadline_id ON tasks(deadline, id);
+CREATE INDEX idx_tasks_course_deadline_id ON tasks(course_id, deadline, id);
+CREATE INDEX idx_payments_created_at_id ON payments(created_at DESC, id DESC);
+CREATE INDEX idx_payments_student_created_at_id ON payments(student_id, created_at DESC, id DESC);
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
+CREATE INDEX idx_courses_created_at_id ON courses(created_at, id);
@@ -0,0 +1,9 @@
+-- =============================================
+-- V4__Course_Trigram_Search.sql
+-- Índices de trigramas para busca de cursos por substring (ILIKE '%termo%')
+-- =============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_courses_name_trgm ON courses USING gin (name gin_trgm_ops);
+CREATE INDEX idx_courses_description_trgm ON courses USING gin (description gin_trgm_ops);
@@ -0,0 +1,42 @@
+-- =============================================
+-- V5__Student_Payment_Summary.sql
+-- Resumo de pagamentos por estudante (contagem e total por status),
+-- mantido incrementalmente pelas escritas de pagamentos
+-- =============================================
+
+CREATE TABLE student_payment_summary (
+    student_id UUID PRIMARY KEY,
+    pending_count INTEGER NOT NULL DEFAULT 0,
+    pending_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    paid_count INTEGER NOT NULL DEFAULT 0,
+    paid_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    overdue_count INTEGER NOT NULL DEFAULT 0,
+    overdue_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    cancelled_count INTEGER NOT NULL DEFAULT 0,
+    cancelled_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    refunded_count INTEGER NOT NULL DEFAULT 0,
+    refunded_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_student_payment_summary_student FOREIGN KEY (student_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos pagamentos existentes
+INSERT INTO student_payment_summary (
+    student_id,
+    pending_count, pending_amount,
+    paid_count, paid_amount,
+    overdue_count, overdue_amount,
+    cancelled_count, cancelled_amount,
+    refunded_count, refunded_amount
+)
+SELECT student_id,
+       COUNT(*) FILTER (WHERE status = 'PENDENTE'), COALESCE(SUM(amount) FILTER (WHERE status = 'PENDENTE'), 0),
+       COUNT(*) FILTER (WHERE status = 'PAGO'), COALESCE(SUM(amount) FILTER (WHERE status = 'PAGO'), 0),
+       COUNT(*) FILTER (WHERE status = 'ATRASADO'), COALESCE(SUM(amount) FILTER (WHERE status = 'ATRASADO'), 0),
+       COUNT(*) FILTER (WHERE status = 'CANCELADO'), COALESCE(SUM(amount) FILTER (WHERE status = 'CANCELADO'), 0),
+       COUNT(*) FILTER (WHERE status = 'REEMBOLSADO'), COALESCE(SUM(amount) FILTER (WHERE status = 'REEMBOLSADO'), 0)
+FROM payments
+GROUP BY student_id;
+
+COMMENT ON TABLE student_payment_summary IS 'Totais de pagamentos por estudante e status (modelo de leitura)';
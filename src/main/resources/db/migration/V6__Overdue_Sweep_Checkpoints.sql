@@ -0,0 +1,32 @@
+-- =============================================
+-- V6__Overdue_Sweep_Checkpoints.sql
+-- Índice parcial para a varredura de pagamentos vencidos e
+-- checkpoints de jobs em lote
+-- =============================================
+
+-- Cada lote da varredura é uma leitura em faixa deste índice
+CREATE INDEX idx_payments_pending_due_date ON payments(due_date, id) WHERE status = 'PENDENTE';
+
+-- =============================================
+-- TABELA: job_checkpoints
+-- Estado da última execução de cada job em lote, para retomada após falha
+-- =============================================
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    cutoff_date DATE,
+    processed BIGINT NOT NULL DEFAULT 0,
+    chunks INTEGER NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_job_checkpoints_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE TRIGGER update_job_checkpoints_updated_at
+    BEFORE UPDATE ON job_checkpoints
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE job_checkpoints IS 'Checkpoint da execução corrente/última de cada job em lote';
@@ -0,0 +1,14 @@
+-- =============================================
+-- V7__Task_Overdue_Status.sql
+-- Status OVERDUE persistido para tarefas com prazo encerrado sem envio
+-- =============================================
+
+ALTER TABLE tasks DROP CONSTRAINT chk_tasks_status;
+ALTER TABLE tasks ADD CONSTRAINT chk_tasks_status
+    CHECK (status IN ('PENDING', 'OVERDUE', 'SUBMITTED', 'LATE', 'GRADED', 'RETURNED'));
+
+-- Tarefas que já venceram antes desta versão
+UPDATE tasks SET status = 'OVERDUE' WHERE status = 'PENDING' AND deadline < CURRENT_TIMESTAMP;
+
+-- Carga do agendador de prazos: apenas tarefas pendentes
+CREATE INDEX idx_tasks_pending_deadline ON tasks(deadline) WHERE status = 'PENDING';
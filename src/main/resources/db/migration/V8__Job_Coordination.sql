@@ -0,0 +1,39 @@
+-- =============================================
+-- V8__Job_Coordination.sql
+-- Coordenação de jobs agendados entre instâncias e histórico de execuções
+-- =============================================
+
+-- =============================================
+-- TABELA: job_locks
+-- Lease por job (ou partição) para bancos sem advisory locks.
+-- No PostgreSQL a exclusão usa pg_try_advisory_lock e esta tabela fica vazia.
+-- =============================================
+CREATE TABLE job_locks (
+    job_name VARCHAR(120) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    locked_until TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE job_locks IS 'Lease de execução de jobs agendados, renovado por heartbeat';
+
+-- =============================================
+-- TABELA: job_runs
+-- Uma linha por execução de job (ou partição) que obteve o lock
+-- =============================================
+CREATE TABLE job_runs (
+    id UUID PRIMARY KEY,
+    job_name VARCHAR(120) NOT NULL,
+    owner_node VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    rows_processed BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+
+    CONSTRAINT chk_job_runs_status CHECK (status IN ('COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_job_runs_job_started ON job_runs(job_name, started_at);
+
+COMMENT ON TABLE job_runs IS 'Histórico de execuções de jobs: duração, linhas processadas e nó executor';
@@ -0,0 +1,9 @@
+-- =============================================
+-- V9__User_Token_Version.sql
+-- Versão dos tokens de acesso por usuário, compartilhada entre as instâncias
+-- =============================================
+
+-- Incrementada a cada revogação; tokens com versão menor deixam de ser aceitos
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.token_version IS 'Versão atual dos tokens de acesso; incrementada ao revogar';
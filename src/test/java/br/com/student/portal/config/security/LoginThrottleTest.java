@@ -0,0 +1,71 @@
+package br.com.student.portal.config.security;
+
+import br.com.student.portal.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+
+    private static final int STUFFING_FAILURES = 25_000;
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle(new SimpleMeterRegistry(), 900, 5, 20, 1000, 100_000);
+    }
+
+    @Test
+    void legitimateUsersAreNotLockedOutDuringCredentialStuffing() {
+        for (int i = 0; i < STUFFING_FAILURES; i++) {
+            throttle.recordFailure("victim" + i + "@example.com", ip(i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            String account = "student" + i + "@example.com";
+            String clientIp = "192.168." + (i / 256) + "." + (i % 256);
+            assertDoesNotThrow(() -> throttle.checkAllowed(account, clientIp));
+        }
+    }
+
+    @Test
+    void accountIsBlockedAfterMaxFailures() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAllowed("target@example.com", ip(i));
+            throttle.recordFailure("target@example.com", ip(i));
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> throttle.checkAllowed("target@example.com", "192.168.0.1"));
+        assertDoesNotThrow(() -> throttle.checkAllowed("other@example.com", "192.168.0.1"));
+    }
+
+    @Test
+    void ipIsBlockedAfterMaxFailures() {
+        for (int i = 0; i < 20; i++) {
+            throttle.recordFailure("account" + i + "@example.com", "203.0.113.7");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> throttle.checkAllowed("fresh@example.com", "203.0.113.7"));
+    }
+
+    @Test
+    void failingIpsAreBlockedOnceGlobalLimitIsReached() {
+        for (int i = 0; i < 1000; i++) {
+            throttle.recordFailure("victim" + i + "@example.com", ip(i));
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> throttle.checkAllowed("victim0@example.com", ip(0)));
+        assertDoesNotThrow(() -> throttle.checkAllowed("student@example.com", "192.168.0.1"));
+    }
+
+    private static String ip(int i) {
+        return "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.student.portal.config.workload;
+
+import br.com.student.portal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkloadLimitersTest {
+
+    private final CountDownLatch hold = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        hold.countDown();
+    }
+
+    @Test
+    void reportingIsRejectedWhileInteractiveIsSaturated() throws Exception {
+        WorkloadLimiters limiters = limiters(1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture.runAsync(() -> limiters.run(WorkloadClass.INTERACTIVE, () -> {
+            started.countDown();
+            await(hold);
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> limiters.call(WorkloadClass.REPORTING, () -> "relatório"));
+    }
+
+    @Test
+    void waiterIsAdmittedWhenPermitIsReleased() throws Exception {
+        WorkloadLimiters limiters = limiters(1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                limiters.run(WorkloadClass.INTERACTIVE, () -> {
+                    started.countDown();
+                    await(hold);
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() ->
+                limiters.call(WorkloadClass.INTERACTIVE, () -> "ok"));
+        hold.countDown();
+
+        holder.get(5, TimeUnit.SECONDS);
+        assertEquals("ok", waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void nestedCallsReuseThePermit() {
+        WorkloadLimiters limiters = limiters(1, 0);
+
+        String result = limiters.call(WorkloadClass.REPORTING, () ->
+                limiters.call(WorkloadClass.INTERACTIVE, () -> "aninhado"));
+
+        assertEquals("aninhado", result);
+    }
+
+    private static WorkloadLimiters limiters(int interactiveLimit, long interactiveWaitMs) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.workload.interactive.max-limit", String.valueOf(interactiveLimit))
+                .withProperty("app.workload.interactive.max-wait-ms", String.valueOf(interactiveWaitMs))
+                .withProperty("app.workload.reporting.max-wait-ms", "0");
+        return new WorkloadLimiters(environment, new SimpleMeterRegistry());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
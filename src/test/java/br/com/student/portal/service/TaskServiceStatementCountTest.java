@@ -0,0 +1,116 @@
+package br.com.student.portal.service;
+
+import br.com.student.portal.entity.Course;
+import br.com.student.portal.entity.Task;
+import br.com.student.portal.entity.User;
+import br.com.student.portal.entity.enums.CourseStatus;
+import br.com.student.portal.entity.enums.TaskStatus;
+import br.com.student.portal.entity.enums.UserRole;
+import br.com.student.portal.service.deadline.DeadlineScheduler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * As leituras de tarefas montam a resposta com curso e autor numa única
+ * consulta, sem N+1 ao acessar as associações.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TaskService.class)
+class TaskServiceStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private DeadlineScheduler deadlineScheduler;
+
+    private Statistics statistics;
+    private UUID courseId;
+
+    @BeforeEach
+    void setUp() {
+        User teacher = User.builder()
+                .name("Professor")
+                .email("professor@example.com")
+                .password("hash")
+                .role(UserRole.TEACHER)
+                .build();
+        entityManager.persist(teacher);
+
+        for (int c = 0; c < 3; c++) {
+            Course course = Course.builder()
+                    .name("Curso " + c)
+                    .status(CourseStatus.ACTIVE)
+                    .build();
+            entityManager.persist(course);
+            courseId = course.getId();
+
+            for (int t = 0; t < 4; t++) {
+                entityManager.persist(Task.builder()
+                        .title("Tarefa " + c + "." + t)
+                        .name("tarefa-" + c + "-" + t)
+                        .description("Descrição")
+                        .deadline(LocalDateTime.now().plusDays(t - 2))
+                        .status(t < 2 ? TaskStatus.OVERDUE : TaskStatus.PENDING)
+                        .course(course)
+                        .createdBy(teacher)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        // Sem cache de segundo nível, para que um N+1 apareça como consulta
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllTasksUsesOneStatement() {
+        var page = taskService.getAllTasks(null, 20);
+
+        assertEquals(12, page.getContent().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksByCourseUsesOneStatement() {
+        var page = taskService.getTasksByCourse(courseId, null, 20);
+
+        assertEquals(4, page.getContent().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getOverdueTasksUsesOneStatement() {
+        var page = taskService.getOverdueTasks(null, null);
+
+        assertEquals(6, page.getContent().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}